@@ -115,7 +115,7 @@ export default function AddPillScheduleScreen({ navigation, route }: Props) {
         timeSlots,
       };
 
-      await pillService.addPillWithSchedule(request);
+      const conflicts = await pillService.addPillWithSchedule(request);
 
       // 구글 캘린더에 동기화 (연동되어 있는 경우)
       if (hasGoogleLinked) {
@@ -132,10 +132,16 @@ export default function AddPillScheduleScreen({ navigation, route }: Props) {
         }
       }
 
-      const message = hasGoogleLinked
+      let message = hasGoogleLinked
           ? `${pill.name}이(가) 등록되고 구글 캘린더에 동기화되었습니다.`
           : `${pill.name}이(가) 등록되었습니다.`;
 
+      // 이미 복용 중인 약과 병용금기가 있으면 함께 안내
+      if (conflicts.length > 0) {
+        const others = conflicts.map((c) => (c.itemSeqA === pill.itemSeq ? c.itemNameB : c.itemNameA) || '').join(', ');
+        message += `\n\n⚠️ 함께 복용하면 안 되는 약이 있습니다: ${others}`;
+      }
+
       Alert.alert('등록 완료', message, [
         { text: '확인', onPress: () => navigation.navigate('Home') }
       ]);
@@ -1,4 +1,4 @@
-import React from 'react';
+import React, { useEffect, useState } from 'react';
 import {
   View,
   Text,
@@ -11,11 +11,21 @@ import {
 import { useNavigation, useRoute } from '@react-navigation/native';
 import { NativeStackNavigationProp } from '@react-navigation/native-stack';
 import { RootStackParamList } from '../navigation/AppNavigator';
+import { pillService } from '../services/pillService';
 
 const PillDetailScreen = () => {
   const navigation = useNavigation<NativeStackNavigationProp<RootStackParamList>>();
   const route = useRoute();
-  const { pill } = route.params as { pill: any };
+  const { pill: initialPill } = route.params as { pill: any };
+  const [pill, setPill] = useState<any>(initialPill);
+
+  // 검색 목록은 본문이 없는 경량 응답이므로 상세 정보를 따로 조회
+  useEffect(() => {
+    if (!initialPill?.itemSeq) return;
+    pillService.getPillDetail(initialPill.itemSeq)
+      .then(detail => setPill({ ...initialPill, ...detail }))
+      .catch(() => {});
+  }, [initialPill?.itemSeq]);
 
   const handleAddPill = () => {
     // 스케줄 설정 화면으로 이동
@@ -12,7 +12,7 @@ import {
   Keyboard,
 } from 'react-native';
 import { NativeStackNavigationProp } from '@react-navigation/native-stack';
-import { Pill } from '../types';
+import { PageResponse, Pill } from '../types';
 import { pillService } from '../services/pillService';
 
 type Props = {
@@ -20,12 +20,28 @@ type Props = {
 };
 
 const SYMPTOM_TAGS = ['두통', '소화불량', '감기', '알러지', '근육통', '수면장애', '피로', '관절통'];
+const PAGE_SIZE = 20;
+
+// 마지막 검색 조건 (스크롤 끝에서 같은 조건으로 다음 페이지 조회)
+type SearchMode = 'name' | 'symptom';
+type LastSearch = { mode: SearchMode; keyword: string };
+
+function fetchPage({ mode, keyword }: LastSearch, page: number): Promise<PageResponse<Pill>> {
+  return mode === 'name'
+    ? pillService.searchByName(keyword, page, PAGE_SIZE)
+    : pillService.searchBySymptom(keyword, page, PAGE_SIZE);
+}
 
 export default function SearchScreen({ navigation }: Props) {
   const [searchQuery, setSearchQuery] = useState('');
   const [results, setResults] = useState<Pill[]>([]);
   const [loading, setLoading] = useState(false);
   const [searched, setSearched] = useState(false);
+  const [lastSearch, setLastSearch] = useState<LastSearch | null>(null);
+  const [page, setPage] = useState(0);
+  const [hasNext, setHasNext] = useState(false);
+  const [totalElements, setTotalElements] = useState(0);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [popularPills, setPopularPills] = useState<Pill[]>([]);
   const [loadingPopular, setLoadingPopular] = useState(true);
 
@@ -47,39 +63,59 @@ export default function SearchScreen({ navigation }: Props) {
     }
   };
 
-  const handleSearch = async () => {
-    if (!searchQuery.trim()) {
-      Alert.alert('알림', '검색어를 입력해주세요.');
-      return;
-    }
-
+  // 첫 페이지 검색 (이전 결과/페이지 정보 초기화)
+  const runSearch = async (search: LastSearch) => {
     Keyboard.dismiss();
     setLoading(true);
     setSearched(true);
+    setLastSearch(search);
     try {
-      const data = await pillService.searchByName(searchQuery);
-      setResults(data);
+      const data = await fetchPage(search, 0);
+      setResults(data.content);
+      setPage(0);
+      setHasNext(data.hasNext);
+      setTotalElements(data.totalElements);
     } catch (error) {
-      console.log('검색 실패:', error);
+      console.log(search.mode === 'name' ? '검색 실패:' : '증상 검색 실패:', error);
       setResults([]);
+      setHasNext(false);
+      setTotalElements(0);
     } finally {
       setLoading(false);
     }
   };
 
-  const handleTagSearch = async (tag: string) => {
+  const handleSearch = () => {
+    if (!searchQuery.trim()) {
+      Alert.alert('알림', '검색어를 입력해주세요.');
+      return;
+    }
+    runSearch({ mode: 'name', keyword: searchQuery });
+  };
+
+  const handleTagSearch = (tag: string) => {
     setSearchQuery(tag);
-    Keyboard.dismiss();
-    setLoading(true);
-    setSearched(true);
+    runSearch({ mode: 'symptom', keyword: tag });
+  };
+
+  // 목록 끝에 닿으면 다음 페이지를 이어 붙임
+  const loadMore = async () => {
+    if (!lastSearch || !hasNext || loading || loadingMore) return;
+
+    setLoadingMore(true);
     try {
-      const data = await pillService.searchBySymptom(tag);
-      setResults(data);
+      const data = await fetchPage(lastSearch, page + 1);
+      setResults(prev => {
+        const seen = new Set(prev.map(pill => pill.itemSeq));
+        return [...prev, ...data.content.filter(pill => !seen.has(pill.itemSeq))];
+      });
+      setPage(page + 1);
+      setHasNext(data.hasNext);
+      setTotalElements(data.totalElements);
     } catch (error) {
-      console.log('증상 검색 실패:', error);
-      setResults([]);
+      console.log('다음 페이지 로드 실패:', error);
     } finally {
-      setLoading(false);
+      setLoadingMore(false);
     }
   };
 
@@ -92,6 +128,9 @@ export default function SearchScreen({ navigation }: Props) {
     setSearchQuery('');
     setResults([]);
     setSearched(false);
+    setLastSearch(null);
+    setHasNext(false);
+    setTotalElements(0);
   };
 
   const renderResultItem = ({ item }: { item: Pill }) => (
@@ -229,13 +268,27 @@ export default function SearchScreen({ navigation }: Props) {
           contentContainerStyle={styles.resultsList}
           renderItem={renderResultItem}
           showsVerticalScrollIndicator={false}
+          onEndReached={loadMore}
+          onEndReachedThreshold={0.5}
           ListHeaderComponent={
             results.length > 0 ? (
               <Text style={styles.resultsCount}>
-                검색 결과 {results.length}건
+                검색 결과 {totalElements}건
+                {results.length < totalElements ? ` 중 ${results.length}건 표시` : ''}
               </Text>
             ) : null
           }
+          ListFooterComponent={
+            loadingMore ? (
+              <View style={styles.loadMoreFooter}>
+                <ActivityIndicator size="small" color="#64748b" />
+              </View>
+            ) : hasNext ? (
+              <TouchableOpacity style={styles.loadMoreButton} onPress={loadMore}>
+                <Text style={styles.loadMoreText}>더 보기</Text>
+              </TouchableOpacity>
+            ) : null
+          }
           ListEmptyComponent={
             <View style={styles.emptyContainer}>
               <View style={styles.emptyIconCircle}>
@@ -450,6 +503,22 @@ const styles = StyleSheet.create({
     color: '#64748b',
     marginBottom: 12,
   },
+  loadMoreFooter: {
+    paddingVertical: 16,
+    alignItems: 'center',
+  },
+  loadMoreButton: {
+    paddingVertical: 14,
+    alignItems: 'center',
+    borderRadius: 10,
+    backgroundColor: '#f1f5f9',
+    marginTop: 4,
+  },
+  loadMoreText: {
+    fontSize: 14,
+    fontWeight: '600',
+    color: '#475569',
+  },
   resultCard: {
     flexDirection: 'row',
     alignItems: 'center',
@@ -1,5 +1,5 @@
 import api from './api';
-import { Pill, PillSchedule, DrugSearchDto, PillWarning, PillScheduleRequest } from '../types';
+import { Pill, PillSchedule, DrugSearchDto, DrugSummaryDto, DurInteractionDto, PageResponse, PillAddResponse, PillWarning, PillScheduleRequest } from '../types';
 
 // DrugSearchDto → Pill 변환 함수
 function convertToUIPill(dto: DrugSearchDto): Pill {
@@ -28,19 +28,50 @@ function convertToUIPill(dto: DrugSearchDto): Pill {
   };
 }
 
+// DrugSummaryDto(검색 목록) → Pill 변환 함수 (본문은 상세 화면에서 조회)
+// 프로필 DUR 유형(임부금기/노인주의/연령금기) → 경고
+function convertProfileWarnings(profileWarnings?: string[]): PillWarning[] {
+  return (profileWarnings || []).map(label => ({
+    type: (label.includes('임부') ? 'pregnancy' : 'interaction') as PillWarning['type'],
+    message: `${label} 대상 (내 프로필 기준)`,
+  }));
+}
+
+function convertSummaryToUIPill(dto: DrugSummaryDto): Pill {
+  const warnings: PillWarning[] = [
+    ...convertProfileWarnings(dto.profileWarnings),
+    ...(dto.durCount > 0 ? [{ type: 'interaction' as const, message: `DUR 주의 정보 ${dto.durCount}건` }] : []),
+  ];
+
+  return {
+    itemSeq: dto.itemSeq,
+    name: dto.itemName,
+    entpName: dto.entpName || '',
+    description: '',
+    dosage: '',
+    warnings,
+  };
+}
+
 export const pillService = {
   // [수정 1] 이름 검색 (주소: /search, 파라미터: keyword)
-  async searchByName(keyword: string): Promise<Pill[]> {
-    // 백엔드 SearchController: @GetMapping("/api/search")
-    const response = await api.get<DrugSearchDto[]>(`/search?keyword=${encodeURIComponent(keyword)}`);
-    return response.data.map(convertToUIPill);
+  // 페이지 정보(hasNext/totalElements)도 함께 반환 → 화면에서 다음 페이지 이어서 로드
+  async searchByName(keyword: string, page: number = 0, size: number = 20): Promise<PageResponse<Pill>> {
+    // 백엔드 SearchController: @GetMapping("/api/search") - 페이지 응답
+    const response = await api.get<PageResponse<DrugSummaryDto>>(
+      `/search?keyword=${encodeURIComponent(keyword)}&page=${page}&size=${size}`
+    );
+    return { ...response.data, content: response.data.content.map(convertSummaryToUIPill) };
   },
 
   // [수정 2] 증상 검색 (주소: /search/symptom, 파라미터: keyword)
-  async searchBySymptom(keyword: string): Promise<Pill[]> {
-    // 백엔드 SearchController: @GetMapping("/api/search/symptom")
-    const response = await api.get<DrugSearchDto[]>(`/search/symptom?keyword=${encodeURIComponent(keyword)}`);
-    return response.data.map(convertToUIPill);
+  // op: 'all' = 입력한 증상을 모두 커버하는 약만, 'any' = 하나라도 커버 (많이 커버할수록 위)
+  async searchBySymptom(keyword: string, page: number = 0, size: number = 20, op: 'all' | 'any' = 'any'): Promise<PageResponse<Pill>> {
+    // 백엔드 SearchController: @GetMapping("/api/search/symptom") - 페이지 응답
+    const response = await api.get<PageResponse<DrugSummaryDto>>(
+      `/search/symptom?keyword=${encodeURIComponent(keyword)}&op=${op}&page=${page}&size=${size}`
+    );
+    return { ...response.data, content: response.data.content.map(convertSummaryToUIPill) };
   },
 
   // [추가] 인기 약품 조회 (사용자들이 가장 많이 추가한 약)
@@ -68,24 +99,32 @@ export const pillService = {
         entpName: drug.entpName || '',
         description: drug.efficacy || '',
         dosage: drug.useMethod || '',
-        warnings: (drug.durInfoList || []).map((dur: any) => ({
+        warnings: [...convertProfileWarnings(item.profileWarnings), ...(drug.durInfoList || []).map((dur: any) => ({
           type: 'interaction' as const,
           message: dur.durInfo || dur.durTypeName || '주의 필요',
-        })),
+        }))],
         imageUrl: drug.itemImage || undefined,
       };
     });
   },
 
-  // [수정 4] 내 약통 추가 (ID 타입: string) - 간단 추가
-  async addPill(itemSeq: string): Promise<void> {
+  // [수정 4] 내 약통 추가 (ID 타입: string) - 간단 추가, 기존 약과의 병용금기 목록 반환
+  async addPill(itemSeq: string): Promise<DurInteractionDto[]> {
     // 백엔드 PillController: @PostMapping("/api/pills/my/{itemSeq}")
-    await api.post(`/pills/my/${itemSeq}`);
+    const response = await api.post<PillAddResponse>(`/pills/my/${itemSeq}`);
+    return response.data.conflicts || [];
+  },
+
+  // [추가] 내 약통 추가 (스케줄 설정 포함), 기존 약과의 병용금기 목록 반환
+  async addPillWithSchedule(request: PillScheduleRequest): Promise<DurInteractionDto[]> {
+    const response = await api.post<PillAddResponse>('/pills/my', request);
+    return response.data.conflicts || [];
   },
 
-  // [추가] 내 약통 추가 (스케줄 설정 포함)
-  async addPillWithSchedule(request: PillScheduleRequest): Promise<void> {
-    await api.post('/pills/my', request);
+  // [추가] 내 약통 병용금기 확인
+  async getMyInteractions(): Promise<DurInteractionDto[]> {
+    const response = await api.get<DurInteractionDto[]>('/pills/my/interactions');
+    return response.data;
   },
 
   // [추가] 스케줄 수정
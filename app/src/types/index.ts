@@ -21,6 +21,37 @@ export interface DrugSearchDto {
   durInfoList: DurInfo[];
 }
 
+// 검색 목록용 경량 응답 (본문은 /search/{itemSeq} 로 조회)
+export interface DrugSummaryDto {
+  itemSeq: string;
+  itemName: string;
+  entpName: string;
+  durCount: number;
+  profileWarnings?: string[];  // 로그인 사용자 프로필 기준 DUR 유형 (예: 임부금기)
+}
+
+// 병용금기 쌍 (내 약통 확인 / 약 추가 응답)
+export interface DurInteractionDto {
+  itemSeqA: string;
+  itemNameA: string | null;
+  itemSeqB: string;
+  itemNameB: string | null;
+  reasons: string[];
+}
+
+export interface PillAddResponse {
+  message: string;
+  conflicts: DurInteractionDto[];
+}
+
+export interface PageResponse<T> {
+  content: T[];
+  page: number;
+  size: number;
+  totalElements: number;
+  hasNext: boolean;
+}
+
 export interface DurInfo {
   id: number;
   itemCode: string;
@@ -0,0 +1,98 @@
+package com.timetopill.bench;
+
+import com.timetopill.event.DrugDataImportedEvent;
+import com.timetopill.repository.DrugOverviewRepository;
+import com.timetopill.service.DrugFetchService;
+import com.timetopill.service.DrugFetchService.FetchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * 오프라인 적재 벤치마크 (./gradlew benchIngest)
+ * - SyntheticDrugPageSource 의 합성 카탈로그를 H2(MySQL 모드)에 적재하고 pages/sec, rows/sec, 최대 힙 출력
+ * - pages/sec, rows/sec 는 실제 적재 결과(FetchResult: 커밋한 페이지 수, 받은 약 수 = 저장 + 건너뜀) 기준
+ * - 1회차: 빈 테이블에 전체 적재 / 2회차: 같은 카탈로그로 delta 적재 (바뀐 약 없음 → 해시 비교만)
+ * - 적재 시간은 DrugDataImportedEvent 발행 시점까지 (그 뒤 카탈로그/색인 재빌드 시간은 따로 출력)
+ * - 저장 방식 비교: 기본은 JDBC 다중 행 upsert, -PbenchJdbcWrite=false 면 JPA saveAll (같은 카탈로그로 두 번 실행해서 rows/sec 비교)
+ * 끝나면 애플리케이션 종료
+ */
+@Slf4j
+@Component
+@Profile("bench")
+@RequiredArgsConstructor
+public class IngestionBenchmark implements ApplicationRunner {
+
+    private final DrugFetchService drugFetchService;
+    private final DrugOverviewRepository drugRepository;
+    private final ApplicationContext context;
+
+    @Value("${drug.bench.items:50000}")
+    private int items;
+
+    @Value("${drug.fetch.jdbc-write:true}")
+    private boolean jdbcWrite;
+
+    private volatile long ingestedAt;
+
+    // 카탈로그 재빌드(DrugCatalog)보다 먼저 실행되어 순수 적재 종료 시각을 기록
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onDrugDataImported(DrugDataImportedEvent event) {
+        ingestedAt = System.nanoTime();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("📦 적재 벤치마크 시작: 합성 카탈로그 약 {}건, 저장 방식 {}", items,
+                jdbcWrite ? "JDBC 다중 행 upsert" : "JPA saveAll");
+
+        measure("전체 적재", false);
+        measure("delta 적재(변경 없음)", true);
+
+        log.info("📦 drug_overview 행 수: {}", drugRepository.count());
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private void measure(String label, boolean delta) {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+
+        long start = System.nanoTime();
+        FetchResult result = drugFetchService.fetch(false, delta);
+        long end = System.nanoTime();
+
+        double seconds = (ingestedAt - start) / 1e9;
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peakHeap += pool.getPeakUsage().getUsed();
+        }
+
+        log.info("📊 [{}] {}", label, result.message());
+        log.info("📊 [{}] 페이지 {}개 | 받은 약 {}건 (신규 {}, 변경 {}, 건너뜀 {})", label, result.pages(),
+                result.received(), result.inserted(), result.updated(), result.skipped());
+        log.info("📊 [{}] {}초 | {} pages/sec | {} rows/sec (저장 {} rows/sec) | 최대 힙 {}MB | 카탈로그/색인 재빌드 {}ms",
+                label,
+                String.format("%.2f", seconds),
+                String.format("%.1f", result.pages() / seconds),
+                String.format("%.0f", result.received() / seconds),
+                String.format("%.0f", result.saved() / seconds),
+                peakHeap / (1024 * 1024),
+                (end - ingestedAt) / 1_000_000);
+    }
+}
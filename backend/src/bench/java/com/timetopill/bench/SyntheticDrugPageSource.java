@@ -0,0 +1,89 @@
+package com.timetopill.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.timetopill.service.DrugPageParser;
+import com.timetopill.service.DrugPageSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * bench 프로필 전용 페이지 공급 (식약처 API 대신)
+ * - fixture-dir 에 page-{pageNo}.json (녹화한 실제 API 응답)이 있으면 그대로 재생
+ * - 없으면 API 응답과 같은 모양의 JSON 을 items 건만큼 합성 (태그/CDATA 가 섞인 효능/용법/주의사항 본문 포함)
+ * 어느 쪽이든 바이트 스트림을 DrugPageParser 로 파싱 → 파싱/정리/해시/저장까지 실제 적재 경로와 같음
+ */
+@Component
+@Profile("bench")
+public class SyntheticDrugPageSource implements DrugPageSource {
+
+    private static final long FIRST_ITEM_SEQ = 200000001L;
+
+    private static final String[] EFFICACY = {
+            "두통, 치통, 생리통, 신경통, 근육통의 완화", "감기로 인한 발열 및 동통(통증)의 완화",
+            "소화불량, 식욕감퇴, 위부팽만감의 개선", "알레르기성 비염, 두드러기, 피부 가려움의 완화"
+    };
+
+    private final DrugPageParser parser = new DrugPageParser(new JsonFactory());
+
+    @Value("${drug.bench.items:50000}")
+    private int items;
+
+    @Value("${drug.bench.fixture-dir:}")
+    private String fixtureDir;
+
+    @Override
+    public Page fetch(int pageNo, int pageSize) throws Exception {
+        if (!fixtureDir.isBlank()) {
+            Path fixture = Paths.get(fixtureDir).resolve("page-" + pageNo + ".json");
+            if (Files.isReadable(fixture)) {
+                try (InputStream in = Files.newInputStream(fixture)) {
+                    return parser.parse(in);
+                }
+            }
+        }
+        return parser.parse(new ByteArrayInputStream(synthesize(pageNo, pageSize)));
+    }
+
+    // { "header": {...}, "body": { "pageNo": n, "totalCount": items, "items": [ ... ] } }
+    private byte[] synthesize(int pageNo, int pageSize) {
+        int from = (pageNo - 1) * pageSize;
+        int to = Math.min(from + pageSize, items);
+
+        StringBuilder json = new StringBuilder(pageSize * 3000);
+        json.append("{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},\"body\":{\"pageNo\":")
+                .append(pageNo).append(",\"totalCount\":").append(items)
+                .append(",\"numOfRows\":").append(pageSize).append(",\"items\":[");
+        for (int i = from; i < to; i++) {
+            if (i > from) json.append(',');
+            String efficacy = EFFICACY[i % EFFICACY.length];
+            json.append("{\"ITEM_SEQ\":\"").append(FIRST_ITEM_SEQ + i)
+                    .append("\",\"ITEM_NAME\":\"벤치정").append(i).append("밀리그램(아세트아미노펜)")
+                    .append("\",\"ENTP_NAME\":\"벤치제약(주)")
+                    .append("\",\"EE_DOC_DATA\":\"").append(document("효능효과", efficacy, 4))
+                    .append("\",\"UD_DOC_DATA\":\"").append(document("용법용량", "성인 1회 1~2정, 1일 3~4회 필요시 복용한다.", 3))
+                    .append("\",\"NB_DOC_DATA\":\"").append(document("사용상의주의사항", "이 약에 과민증 환자는 복용하지 말 것. " + efficacy + " 목적 외 장기 복용 금지.", 12))
+                    .append("\",\"CHART\":\"흰색의 원형 정제\",\"ATC_CODE\":\"N02BE01\"}");
+        }
+        json.append("]}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 식약처 XML 문서 필드와 비슷한 모양: <DOC><SECTION><ARTICLE><PARAGRAPH><![CDATA[...]]></PARAGRAPH>...
+    private String document(String title, String sentence, int paragraphs) {
+        StringBuilder doc = new StringBuilder("<DOC title='").append(title).append("' type='EE'><SECTION title=''>");
+        for (int p = 1; p <= paragraphs; p++) {
+            doc.append("<ARTICLE title='").append(p).append(". '><PARAGRAPH tagName='p'><![CDATA[")
+                    .append(sentence).append("  ").append(sentence)
+                    .append("]]></PARAGRAPH></ARTICLE>");
+        }
+        return doc.append("</SECTION></DOC>").toString();
+    }
+}
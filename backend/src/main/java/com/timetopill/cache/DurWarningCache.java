@@ -0,0 +1,106 @@
+package com.timetopill.cache;
+
+import com.timetopill.dto.ScheduleDto.WarningInfo;
+import com.timetopill.entity.DurInfo;
+import com.timetopill.event.DurDataImportedEvent;
+import com.timetopill.index.DurPresenceFilter;
+import com.timetopill.repository.DurInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * itemSeq -> 복용 일정 화면용 DUR 경고 요약 (불변 List<WarningInfo>) 캐시
+ * - 유형(type_name)마다 경고 하나: "임부금기: 첫 번째 상세 내용"
+ * - 캐시에 없는 약만 모아 IN 쿼리 한 번으로 채움, DUR 이 확실히 없는 약은 조회 없이 빈 목록
+ * - 모든 사용자의 일정 응답이 같은 리스트 인스턴스를 공유
+ * - DUR 적재 완료 시 전체 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DurWarningCache {
+
+    static final int CAPACITY = 5000;
+    private static final int MAX_MESSAGE_LENGTH = 80;
+
+    private final DurInfoRepository durInfoRepository;
+    private final DurPresenceFilter durPresenceFilter;
+
+    private final LruCache<String, List<WarningInfo>> cache = new LruCache<>(CAPACITY);
+
+    @EventListener
+    public void onDurDataImported(DurDataImportedEvent event) {
+        cache.clear();
+        log.info("DUR 경고 캐시 비움 (DUR 데이터 적재)");
+    }
+
+    /** itemSeq 별 경고 요약 (경고가 없으면 빈 목록, 조회 실패 시 빈 목록) */
+    public Map<String, List<WarningInfo>> warningsFor(Collection<String> itemSeqs) {
+        Map<String, List<WarningInfo>> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        long generation = cache.generation();
+        DurPresenceFilter.Snapshot durFilter = durPresenceFilter.snapshot();
+
+        for (String itemSeq : new LinkedHashSet<>(itemSeqs)) {
+            List<WarningInfo> cached = cache.get(itemSeq);
+            if (cached != null) {
+                result.put(itemSeq, cached);
+            } else if (durFilter != null && !durFilter.mayHaveDurInfo(itemSeq)) {
+                result.put(itemSeq, List.of());
+                cache.put(itemSeq, List.of(), generation);
+            } else {
+                misses.add(itemSeq);
+            }
+        }
+        if (misses.isEmpty()) return result;
+
+        Map<String, List<DurInfo>> rowsByCode = new HashMap<>();
+        try {
+            for (DurInfo dur : durInfoRepository.findByItemCodeIn(misses)) {
+                rowsByCode.computeIfAbsent(dur.getItemCode(), k -> new ArrayList<>()).add(dur);
+            }
+        } catch (Exception e) {
+            // 경고 조회 실패로 일정 화면이 막히지 않도록 빈 목록 처리 (캐시에는 넣지 않음)
+            log.warn("⚠️ DUR 경고 조회 실패 (약 {}건): {}", misses.size(), e.getMessage());
+            for (String itemSeq : misses) result.put(itemSeq, List.of());
+            return result;
+        }
+
+        for (String itemSeq : misses) {
+            List<WarningInfo> warnings = summarize(rowsByCode.getOrDefault(itemSeq, List.of()));
+            result.put(itemSeq, warnings);
+            cache.put(itemSeq, warnings, generation);
+        }
+        return result;
+    }
+
+    public LruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    // 유형별 첫 번째 내용으로 한 줄 요약
+    private static List<WarningInfo> summarize(List<DurInfo> rows) {
+        if (rows.isEmpty()) return List.of();
+        Map<String, String> firstContentByType = new LinkedHashMap<>();
+        for (DurInfo dur : rows) {
+            String type = dur.getTypeName() != null ? dur.getTypeName() : "DUR";
+            String content = dur.getProhibitedContent() != null ? dur.getProhibitedContent().trim() : "";
+            firstContentByType.merge(type, content, (prev, next) -> prev.isEmpty() ? next : prev);
+        }
+
+        List<WarningInfo> warnings = new ArrayList<>(firstContentByType.size());
+        firstContentByType.forEach((type, content) -> {
+            String message = content.isEmpty() ? type : type + ": " + abbreviate(content);
+            warnings.add(new WarningInfo(type.contains("임부") ? "pregnancy" : "interaction", message));
+        });
+        return List.copyOf(warnings);
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() > MAX_MESSAGE_LENGTH ? text.substring(0, MAX_MESSAGE_LENGTH) + "…" : text;
+    }
+}
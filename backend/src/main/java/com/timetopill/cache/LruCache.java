@@ -0,0 +1,66 @@
+package com.timetopill.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기 제한 LRU 캐시 (LinkedHashMap access-order) + 적중/미스 카운터
+ * - 전체 비우기(clear) 시 세대 번호 증가 → 비우기 전에 시작한 계산 결과는 put 되지 않음
+ */
+public final class LruCache<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> map;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile long generation = 0;
+
+    public LruCache(int capacity) {
+        this.capacity = capacity;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.capacity) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** 없으면 null */
+    public synchronized V get(K key) {
+        V value = map.get(key);
+        if (value == null) misses.incrementAndGet();
+        else hits.incrementAndGet();
+        return value;
+    }
+
+    /** 계산 시작 시점의 세대 번호 (put 할 때 함께 넘김) */
+    public long generation() {
+        return generation;
+    }
+
+    /** 계산 도중 clear 됐으면(세대가 바뀌었으면) 저장하지 않음 */
+    public synchronized void put(K key, V value, long expectedGeneration) {
+        if (expectedGeneration != generation) return;
+        map.put(key, value);
+    }
+
+    public synchronized void clear() {
+        generation++;
+        map.clear();
+    }
+
+    public synchronized Stats stats() {
+        long h = hits.get();
+        long m = misses.get();
+        double hitRate = h + m == 0 ? 0.0 : (double) h / (h + m);
+        return new Stats(map.size(), capacity, h, m, evictions.get(), hitRate);
+    }
+
+    public record Stats(int size, int capacity, long hits, long misses, long evictions, double hitRate) {}
+}
@@ -0,0 +1,103 @@
+package com.timetopill.cache;
+
+import com.timetopill.dto.DrugSummaryDto;
+import com.timetopill.dto.PageResponse;
+import com.timetopill.dto.SymptomMatchOp;
+import com.timetopill.event.DrugCatalogReloadedEvent;
+import com.timetopill.event.DrugDataImportedEvent;
+import com.timetopill.event.DurDataImportedEvent;
+import com.timetopill.symptommapper.mapping.MatchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 이름/증상 검색 결과 페이지 캐시
+ * - 이름 검색 키: 소문자 키워드 + 제외 마스크 + page + size
+ * - 증상 검색 키: 매핑된 (증상 id, 신뢰도) 정렬 목록 + op + 제외 마스크 + page + size ("두통, 발열" 과 "발열 두통" 은 같은 키)
+ *   관련도 점수가 신뢰도에 비례하므로 신뢰도도 키에 포함 (0.01 단위로 양자화, 점수 계산에도 같은 값 사용)
+ *   매핑 실패 시엔 원본 키워드 기준
+ * - 제외 마스크: 프로필 금기 약 제외 요청 시의 ProfileDurType 마스크 (제외 안 하면 0)
+ * - 약 데이터 재적재(카탈로그 재빌드) / DUR 적재 완료 시 전체 비움
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    static final int NAME_CAPACITY = 1000;
+    static final int SYMPTOM_CAPACITY = 1000;
+
+    private final LruCache<String, PageResponse<DrugSummaryDto>> byName = new LruCache<>(NAME_CAPACITY);
+    private final LruCache<String, PageResponse<DrugSummaryDto>> bySymptom = new LruCache<>(SYMPTOM_CAPACITY);
+
+    public LruCache<String, PageResponse<DrugSummaryDto>> byName() {
+        return byName;
+    }
+
+    public LruCache<String, PageResponse<DrugSummaryDto>> bySymptom() {
+        return bySymptom;
+    }
+
+    public static String nameKey(String keyword, int excludeMask, int page, int size) {
+        return keyword.toLowerCase(Locale.ROOT) + "|" + excludeMask + "|" + page + "|" + size;
+    }
+
+    public static String symptomKey(List<MatchResult> symptoms, SymptomMatchOp op, int excludeMask, int page, int size) {
+        List<String> sorted = new ArrayList<>(symptoms.size());
+        for (MatchResult match : symptoms) {
+            sorted.add(match.symptomId() + "@" + confidencePercent(match.confidence()));
+        }
+        Collections.sort(sorted);
+        return "ids:" + sorted + "|" + op + "|" + excludeMask + "|" + page + "|" + size;
+    }
+
+    /** 키에 넣는 것과 같은 0.01 단위 신뢰도 (같은 키의 결과는 같은 점수가 되도록 점수 계산에 사용) */
+    public static double quantizeConfidence(double confidence) {
+        return confidencePercent(confidence) / 100.0;
+    }
+
+    private static long confidencePercent(double confidence) {
+        return Math.round(confidence * 100);
+    }
+
+    public static String symptomFallbackKey(String keyword, SymptomMatchOp op, int excludeMask, int page, int size) {
+        return "kw:" + keyword + "|" + op + "|" + excludeMask + "|" + page + "|" + size;
+    }
+
+    // 카탈로그 재빌드가 실패하더라도 적재 직후 오래된 결과가 남지 않도록 적재 완료 시점에도 비움
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDrugDataImported(DrugDataImportedEvent event) {
+        if (!event.hasChanges()) return;
+        invalidateAll("약 데이터 적재 " + event.savedCount() + "건");
+    }
+
+    // 카탈로그 기반 색인(SymptomDrugIndex 등)이 다시 빌드된 다음에 비워야 하므로 가장 나중에 실행
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener
+    public void onCatalogReloaded(DrugCatalogReloadedEvent event) {
+        invalidateAll("약품 카탈로그 재빌드");
+    }
+
+    @EventListener
+    public void onDurDataImported(DurDataImportedEvent event) {
+        invalidateAll("DUR 데이터 적재");
+    }
+
+    public void invalidateAll(String reason) {
+        byName.clear();
+        bySymptom.clear();
+        log.info("검색 결과 캐시 비움 ({})", reason);
+    }
+
+    public Map<String, LruCache.Stats> stats() {
+        Map<String, LruCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("name", byName.stats());
+        stats.put("symptom", bySymptom.stats());
+        return stats;
+    }
+}
@@ -1,8 +1,10 @@
 package com.timetopill.config;
 
 import com.timetopill.service.CustomOAuth2UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -18,6 +20,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Set;
 
 @Configuration
 @EnableWebSecurity
@@ -25,6 +28,10 @@ public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
 
+    // 관리자 userId 목록 (쉼표 구분, 비어 있으면 관리자 API 는 아무도 못 씀)
+    @Value("${admin.user-ids:}")
+    private Set<Long> adminUserIds;
+
     public SecurityConfig(CustomOAuth2UserService customOAuth2UserService) {
         this.customOAuth2UserService = customOAuth2UserService;
     }
@@ -51,11 +58,15 @@ public class SecurityConfig {
                 )
 
                 // 임시 토큰 인증 필터 추가 (모든 인증 전에 실행)
-                .addFilterBefore(new TokenAuthenticationFilter(), BasicAuthenticationFilter.class)
+                .addFilterBefore(new TokenAuthenticationFilter(adminUserIds), BasicAuthenticationFilter.class)
 
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/api/auth/**", "/oauth2/**", "/login/**").permitAll()
-                        .requestMatchers("/api/search/**", "/api/load-dur").permitAll()
+                        // 캐시 적중/미스 현황은 운영 지표라 관리자만 (검색 경로 permitAll 보다 먼저)
+                        .requestMatchers("/api/search/cache/**").hasRole("ADMIN")
+                        .requestMatchers("/api/search/**").permitAll()
+                        // 약 데이터 적재 / DUR 전체 재적재는 관리자만
+                        .requestMatchers(HttpMethod.POST, "/api/init-data", "/api/load-dur").hasRole("ADMIN")
                         // 내 약통(/api/pills), 스케줄(/api/schedule) 등 나머지는 로그인 필수
                         .anyRequest().authenticated()
                 );
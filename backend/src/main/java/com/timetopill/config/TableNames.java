@@ -30,4 +30,10 @@ public final class TableNames {
     public static final String TYPO_CORRECTION = "typo_correction";
     public static final String UNMAPPED_TERM = "unmapped_term";
 
+    // 7. 인기 약품 카운터
+    public static final String PILL_POPULARITY = "pill_popularity";
+
+    // 8. 식약처 API 적재 체크포인트
+    public static final String INGESTION_CHECKPOINT = "ingestion_checkpoint";
+
 }
\ No newline at end of file
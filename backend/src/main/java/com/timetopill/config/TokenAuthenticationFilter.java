@@ -12,14 +12,23 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 임시 토큰(temp-token-{userId}, google-token-{userId}) 처리 필터
  * JWT 구현 전까지 사용하는 임시 인증 방식
+ * admin.user-ids 에 등록된 userId 는 ROLE_ADMIN 도 부여 (데이터 적재 등 관리자 API)
  */
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
+    private final Set<Long> adminUserIds;
+
+    public TokenAuthenticationFilter(Set<Long> adminUserIds) {
+        this.adminUserIds = adminUserIds;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -34,11 +43,17 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             Long userId = extractUserIdFromToken(token);
 
             if (userId != null) {
+                List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+                authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+                if (adminUserIds.contains(userId)) {
+                    authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+                }
+
                 // userId를 username으로 사용하는 UserDetails 생성
                 UserDetails userDetails = User.builder()
                         .username(userId.toString())
                         .password("") // 비밀번호는 사용하지 않음
-                        .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                        .authorities(authorities)
                         .build();
 
                 UsernamePasswordAuthenticationToken authentication =
@@ -1,6 +1,8 @@
 package com.timetopill.controller;
 
 import com.timetopill.dto.DrugSearchDto;
+import com.timetopill.dto.DurInteractionDto;
+import com.timetopill.dto.PillAddResponse;
 import com.timetopill.dto.PillScheduleRequest;
 import com.timetopill.dto.UserPillResponse;
 import com.timetopill.service.PillService;
@@ -25,22 +27,27 @@ public class PillController {
         return pillService.getMyPillsWithSchedule(userId);
     }
 
+    // 1-1. 내 약통 병용금기 확인 (함께 먹으면 안 되는 약 쌍 목록)
+    @GetMapping("/my/interactions")
+    public List<DurInteractionDto> getMyInteractions(@AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return pillService.getMyInteractions(userId);
+    }
+
     // 2. 내 약통에 추가 (스케줄 설정 포함)
     @PostMapping("/my")
-    public String addMyPillWithSchedule(@AuthenticationPrincipal UserDetails userDetails,
-                                        @RequestBody PillScheduleRequest request) {
+    public PillAddResponse addMyPillWithSchedule(@AuthenticationPrincipal UserDetails userDetails,
+                                                 @RequestBody PillScheduleRequest request) {
         Long userId = Long.parseLong(userDetails.getUsername());
-        pillService.addPillWithSchedule(userId, request);
-        return "약통에 추가되었습니다.";
+        return pillService.addPillWithSchedule(userId, request);
     }
 
     // 2-1. 간단 추가 (기존 호환용 - 스케줄 없이)
     @PostMapping("/my/{itemSeq}")
-    public String addMyPill(@AuthenticationPrincipal UserDetails userDetails,
-                            @PathVariable("itemSeq") String itemSeq) {
+    public PillAddResponse addMyPill(@AuthenticationPrincipal UserDetails userDetails,
+                                     @PathVariable("itemSeq") String itemSeq) {
         Long userId = Long.parseLong(userDetails.getUsername());
-        pillService.addPill(userId, itemSeq);
-        return "약통에 추가되었습니다.";
+        return pillService.addPill(userId, itemSeq);
     }
 
     // 3. 내 약통에서 삭제
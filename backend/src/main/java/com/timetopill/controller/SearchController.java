@@ -1,34 +1,105 @@
 package com.timetopill.controller;
 
+import com.timetopill.cache.DurWarningCache;
+import com.timetopill.cache.LruCache;
+import com.timetopill.cache.SearchResultCache;
 import com.timetopill.dto.DrugSearchDto;
+import com.timetopill.dto.DrugSuggestionDto;
+import com.timetopill.dto.DrugSummaryDto;
+import com.timetopill.dto.PageResponse;
+import com.timetopill.dto.SymptomMatchOp;
 import com.timetopill.service.SearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/search")
 @RequiredArgsConstructor
 public class SearchController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final SearchService searchService;
+    private final SearchResultCache searchResultCache;
+    private final DurWarningCache durWarningCache;
 
-    // GET /api/search?keyword=...
+    // GET /api/search?keyword=...&page=0&size=20&exclude=false
+    // 로그인 상태면 프로필(나이/성별)에 해당하는 DUR 유형을 profileWarnings 로 표시, exclude=true 면 결과에서 제외
+    // (연령금기는 약마다 기준 나이가 달라 제외하지 않고 표시만)
     @GetMapping
-    public List<DrugSearchDto> searchByName(@RequestParam("keyword") String keyword) {
-        return searchService.searchByName(keyword);
+    public PageResponse<DrugSummaryDto> searchByName(@AuthenticationPrincipal UserDetails userDetails,
+                                                     @RequestParam("keyword") String keyword,
+                                                     @RequestParam(value = "page", defaultValue = "0") int page,
+                                                     @RequestParam(value = "size", defaultValue = "20") int size,
+                                                     @RequestParam(value = "exclude", defaultValue = "false") boolean exclude) {
+        validatePage(page, size);
+        int profileMask = searchService.profileMaskOf(currentUserId(userDetails));
+        return searchService.searchByName(keyword, page, size, profileMask, exclude);
     }
 
-    // GET /api/search/symptom?keyword=...
+    // GET /api/search/symptom?keyword=...&op=any&page=0&size=20&exclude=false (op=all: 모든 증상을 커버하는 약만)
     @GetMapping("/symptom")
-    public List<DrugSearchDto> searchBySymptom(@RequestParam("keyword") String keyword) {
-        return searchService.searchBySymptom(keyword);
+    public PageResponse<DrugSummaryDto> searchBySymptom(@AuthenticationPrincipal UserDetails userDetails,
+                                                        @RequestParam("keyword") String keyword,
+                                                        @RequestParam(value = "op", defaultValue = "any") String op,
+                                                        @RequestParam(value = "page", defaultValue = "0") int page,
+                                                        @RequestParam(value = "size", defaultValue = "20") int size,
+                                                        @RequestParam(value = "exclude", defaultValue = "false") boolean exclude) {
+        validatePage(page, size);
+        int profileMask = searchService.profileMaskOf(currentUserId(userDetails));
+        return searchService.searchBySymptom(keyword, SymptomMatchOp.from(op), page, size, profileMask, exclude);
+    }
+
+    // GET /api/search/suggest?keyword=ㅌㅇㄹ&limit=10 (이름/초성 자동완성)
+    @GetMapping("/suggest")
+    public List<DrugSuggestionDto> suggest(@RequestParam("keyword") String keyword,
+                                           @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return searchService.suggest(keyword, limit);
     }
 
     // GET /api/search/popular?limit=5
     @GetMapping("/popular")
     public List<DrugSearchDto> getPopularPills(@RequestParam(value = "limit", defaultValue = "5") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
         return searchService.getPopularPills(limit);
     }
-}
\ No newline at end of file
+
+    // GET /api/search/cache/stats - 검색 결과 / DUR 경고 캐시 적중/미스 현황 (관리자만, SecurityConfig)
+    @GetMapping("/cache/stats")
+    public Map<String, LruCache.Stats> getCacheStats() {
+        Map<String, LruCache.Stats> stats = new LinkedHashMap<>(searchResultCache.stats());
+        stats.put("durWarning", durWarningCache.stats());
+        return stats;
+    }
+
+    // GET /api/search/{itemSeq} - 약 상세 (본문 + DUR 목록)
+    @GetMapping("/{itemSeq}")
+    public DrugSearchDto getDrugDetail(@PathVariable("itemSeq") String itemSeq) {
+        return searchService.getDrugDetail(itemSeq);
+    }
+
+    // 검색은 비로그인도 허용 → 토큰이 없으면 null
+    private Long currentUserId(UserDetails userDetails) {
+        return userDetails != null ? Long.parseLong(userDetails.getUsername()) : null;
+    }
+
+    private void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+    }
+}
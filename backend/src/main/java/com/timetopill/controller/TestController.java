@@ -1,8 +1,10 @@
 package com.timetopill.controller;
 
+import com.timetopill.durimport.DurImportService;
 import com.timetopill.service.DrugFetchService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -10,10 +12,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class TestController {
 
     private final DrugFetchService drugFetchService;
+    private final DurImportService durImportService;
 
-    // 이 주소로 접속하면 데이터 다운로드가 시작됩니다.
-    @GetMapping("/api/init-data")
-    public String initData() {
-        return drugFetchService.fetchAllData();
+    // 식약처 API 전체/변경분 적재 시작
+    // ?resume=true 면 중단된 마지막 적재의 체크포인트 다음 페이지부터 이어서 받음
+    // ?delta=true 면 이미 있는 약도 내용이 바뀌었으면 다시 씀 (기본은 새 약만 추가)
+    // DB 를 대량으로 쓰고 검색 캐시도 비우는 긴 작업이라 POST + 관리자(admin.user-ids)만 허용 (SecurityConfig)
+    @PostMapping("/api/init-data")
+    public String initData(@RequestParam(value = "resume", defaultValue = "false") boolean resume,
+                           @RequestParam(value = "delta", defaultValue = "false") boolean delta) {
+        return drugFetchService.fetchAllData(resume, delta);
     }
-}
\ No newline at end of file
+
+    // DUR CSV 적재 (dur.import.dir 폴더의 식약처 CSV → 그림자 테이블 적재 후 교체)
+    // 테이블을 통째로 교체하는 무거운 작업이라 POST + 관리자(admin.user-ids)만 허용 (SecurityConfig)
+    @PostMapping("/api/load-dur")
+    public String loadDur() {
+        return durImportService.importAll();
+    }
+}
@@ -0,0 +1,7 @@
+package com.timetopill.dto;
+
+// 자동완성 후보 (약 이름만)
+public record DrugSuggestionDto(
+        String itemSeq,
+        String itemName
+) {}
@@ -0,0 +1,58 @@
+package com.timetopill.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 검색 결과 목록용 경량 DTO
+ * - 효능/용법/주의사항 본문과 DUR 상세 목록은 빼고 DUR 건수만 포함
+ * - 상세 본문은 GET /api/search/{itemSeq} 로 조회
+ */
+@Getter
+public class DrugSummaryDto {
+
+    private final String itemSeq;
+    private final String itemName;
+    private final String entpName;
+    private final long durCount;
+
+    // 증상 검색 관련도 점수 (이름 검색에서는 null → 응답에서 생략)
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double score;
+
+    // 로그인 사용자 프로필 기준 해당 DUR 유형 (예: "임부금기") - 없으면 응답에서 생략
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<String> profileWarnings = List.of();
+
+    // JPQL 생성자 표현식(SELECT new ...)에서 사용 - DUR 건수는 나중에 withDurCount 로 채움
+    public DrugSummaryDto(String itemSeq, String itemName, String entpName) {
+        this(itemSeq, itemName, entpName, 0L);
+    }
+
+    // JPQL 생성자 표현식(SELECT new ...)에서 사용
+    public DrugSummaryDto(String itemSeq, String itemName, String entpName, Long durCount) {
+        this.itemSeq = itemSeq;
+        this.itemName = itemName;
+        this.entpName = entpName;
+        this.durCount = durCount != null ? durCount : 0L;
+    }
+
+    public DrugSummaryDto withDurCount(long durCount) {
+        DrugSummaryDto copy = new DrugSummaryDto(itemSeq, itemName, entpName, durCount);
+        copy.score = score;
+        copy.profileWarnings = profileWarnings;
+        return copy;
+    }
+
+    // 캐시에 든 인스턴스는 사용자 간에 공유되므로 경고는 복사본에만 붙임
+    public DrugSummaryDto withProfileWarnings(List<String> profileWarnings) {
+        DrugSummaryDto copy = new DrugSummaryDto(itemSeq, itemName, entpName, durCount);
+        copy.score = score;
+        copy.profileWarnings = List.copyOf(profileWarnings);
+        return copy;
+    }
+}
@@ -0,0 +1,12 @@
+package com.timetopill.dto;
+
+import java.util.List;
+
+// 내 약통 안의 병용금기 쌍 (같은 쌍의 사유가 여러 행이면 reasons 로 묶음)
+public record DurInteractionDto(
+        String itemSeqA,
+        String itemNameA,
+        String itemSeqB,
+        String itemNameB,
+        List<String> reasons
+) {}
@@ -0,0 +1,12 @@
+package com.timetopill.dto;
+
+import java.util.List;
+
+// 목록 API 공통 페이지 응답 (page 는 0부터 시작)
+public record PageResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        long totalElements,
+        boolean hasNext
+) {}
@@ -0,0 +1,9 @@
+package com.timetopill.dto;
+
+import java.util.List;
+
+// 내 약통 추가 결과 - 이미 먹고 있는 약과의 병용금기가 있으면 conflicts 에 담김 (추가 자체는 진행됨)
+public record PillAddResponse(
+        String message,
+        List<DurInteractionDto> conflicts
+) {}
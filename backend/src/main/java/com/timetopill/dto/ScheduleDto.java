@@ -14,14 +14,14 @@ public class ScheduleDto {
             LocalDateTime takenAt,
             PillInfo pill          // drug -> pill (프론트엔드 호환)
     ) {
-        public static ScheduleResponse from(Schedule schedule) {
+        public static ScheduleResponse from(Schedule schedule, java.util.List<WarningInfo> warnings) {
             return new ScheduleResponse(
                     schedule.getId(),
                     schedule.getScheduleDate().toString(),
                     schedule.getScheduleTime() != null ? schedule.getScheduleTime().name() : "morning",
                     schedule.isTaken(),
                     schedule.getTakenAt(),
-                    PillInfo.from(schedule.getDrug())
+                    PillInfo.from(schedule.getDrug(), warnings)
             );
         }
     }
@@ -35,14 +35,14 @@ public class ScheduleDto {
             String dosage,
             java.util.List<WarningInfo> warnings
     ) {
-        public static PillInfo from(com.timetopill.entity.DrugOverview drug) {
+        public static PillInfo from(com.timetopill.entity.DrugOverview drug, java.util.List<WarningInfo> warnings) {
             return new PillInfo(
                     drug.getItemSeq(),
                     drug.getItemName(),
                     drug.getEntpName() != null ? drug.getEntpName() : "",
                     drug.getEfficacyText() != null ? drug.getEfficacyText() : "",
                     drug.getUseMethodText() != null ? drug.getUseMethodText() : "",
-                    java.util.Collections.emptyList() // TODO: DUR 정보 추가 가능
+                    warnings // DurWarningCache 의 불변 요약 목록 (응답 간 공유)
             );
         }
     }
@@ -0,0 +1,19 @@
+package com.timetopill.dto;
+
+import java.util.Locale;
+
+/**
+ * 여러 증상 검색 시 결합 방식 (/api/search/symptom?op=...)
+ */
+public enum SymptomMatchOp {
+    ALL,    // 입력한 증상을 모두 커버하는 약만
+    ANY;    // 하나라도 커버하면 포함 (커버 증상 수가 많은 약이 먼저)
+
+    public static SymptomMatchOp from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("op는 all 또는 any 여야 합니다.");
+        }
+    }
+}
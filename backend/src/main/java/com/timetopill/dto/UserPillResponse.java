@@ -23,7 +23,14 @@ public class UserPillResponse {
     private List<String> timeSlots;
     private boolean isActive;
 
+    // 사용자 프로필(나이/성별) 기준 해당 DUR 유형 (예: "노인주의")
+    private List<String> profileWarnings;
+
     public static UserPillResponse from(UserPill userPill) {
+        return from(userPill, List.of());
+    }
+
+    public static UserPillResponse from(UserPill userPill, List<String> profileWarnings) {
         return UserPillResponse.builder()
                 .id(userPill.getId())
                 .drug(DrugSearchDto.from(userPill.getDrug()))
@@ -37,6 +44,7 @@ public class UserPillResponse {
                     ? Arrays.asList(userPill.getTimeSlots().split(","))
                     : List.of("MORNING"))
                 .isActive(userPill.isActive())
+                .profileWarnings(profileWarnings)
                 .build();
     }
 }
@@ -0,0 +1,119 @@
+package com.timetopill.durimport;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 리더 (RFC 4180 - 큰따옴표 필드, "" 이스케이프, 필드 안 줄바꿈 지원)
+ * - 한 레코드씩 읽으므로 파일 크기와 무관하게 메모리 일정
+ * - 인코딩: UTF-8(BOM 포함) 로 디코딩되면 UTF-8, 아니면 CP949 (식약처 CSV 기본)
+ */
+final class CsvReader implements Closeable {
+
+    static final Charset CP949 = Charset.forName("MS949");
+    private static final int DETECT_BYTES = 64 * 1024;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int peeked = -2;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    static CsvReader open(Path path) throws IOException {
+        Charset charset = detectCharset(path);
+        InputStream in = new BufferedInputStream(Files.newInputStream(path), 1 << 16);
+        if (charset == StandardCharsets.UTF_8) skipBom(in);
+        return new CsvReader(new BufferedReader(new InputStreamReader(in, charset), 1 << 16));
+    }
+
+    /** 앞부분을 UTF-8 로 엄격 디코딩해 보고 실패하면 CP949 */
+    static Charset detectCharset(Path path) throws IOException {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(path)) {
+            head = in.readNBytes(DETECT_BYTES);
+        }
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer out = CharBuffer.allocate(head.length);
+        // endOfInput=false → 잘린 마지막 멀티바이트 문자는 오류로 보지 않음
+        CoderResult result = decoder.decode(ByteBuffer.wrap(head), out, head.length < DETECT_BYTES);
+        return result.isError() ? CP949 : StandardCharsets.UTF_8;
+    }
+
+    private static void skipBom(InputStream in) throws IOException {
+        in.mark(3);
+        byte[] bom = in.readNBytes(3);
+        if (!(bom.length == 3 && (bom[0] & 0xFF) == 0xEF && (bom[1] & 0xFF) == 0xBB && (bom[2] & 0xFF) == 0xBF)) {
+            in.reset();
+        }
+    }
+
+    /** 다음 레코드의 필드 목록, 파일 끝이면 null */
+    List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    record.add(field.toString());
+                    return record;
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') read();
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) peeked = reader.read();
+        return peeked;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,24 @@
+package com.timetopill.durimport;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 한 줄 - 헤더 이름으로 값 조회 (없는 컬럼은 빈 문자열, 앞뒤 공백 제거)
+ */
+record CsvRow(Map<String, Integer> columns, List<String> values) {
+
+    String get(String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) return "";
+        String value = values.get(index);
+        return value == null ? "" : value.trim();
+    }
+
+    /** 공백 앞 첫 토큰 ("12 세" → "12") */
+    String firstToken(String column) {
+        String value = get(column);
+        int space = value.indexOf(' ');
+        return space < 0 ? value : value.substring(0, space);
+    }
+}
@@ -0,0 +1,74 @@
+package com.timetopill.durimport;
+
+/**
+ * 식약처 DUR CSV 파일별 컬럼 → 테이블 행 변환
+ * - dur_info 행: (item_code, item_name, type_name, prohibited_content, remark)
+ * - dur_combination_info 행: (item_code_a, item_name_a, item_code_b, item_name_b, prohibited_content, remark)
+ * - 제품코드가 비어 있는 행은 건너뜀 (null 반환)
+ */
+enum DurCsvFile {
+
+    AGE("DUR_AgeTaboo.csv") {
+        @Override
+        Object[] toRow(CsvRow row) {
+            String content = row.firstToken("특정연령") + row.firstToken("특정연령단위") + " "
+                    + row.firstToken("연령처리조건") + " 금기. " + row.get("상세정보");
+            return durInfo(row, "연령금기", content);
+        }
+    },
+    PREGNANCY("DUR_PregnancyTaboo.csv") {
+        @Override
+        Object[] toRow(CsvRow row) {
+            return durInfo(row, "임부금기", "[등급 " + row.get("금기등급") + "] " + row.get("상세정보"));
+        }
+    },
+    ELDERLY("DUR_ElderlyCare.csv") {
+        @Override
+        Object[] toRow(CsvRow row) {
+            return durInfo(row, "노인주의", row.get("약품상세정보"));
+        }
+    },
+    ELDERLY_NSAID("DUR_ElderlyCare_antipyretics.csv") {
+        @Override
+        Object[] toRow(CsvRow row) {
+            return durInfo(row, "노인주의(해열진통소염제)", row.get("약품상세정보"));
+        }
+    },
+    COMBINATION("DUR_Contraindication_for_combined_use.csv") {
+        @Override
+        Object[] toRow(CsvRow row) {
+            String codeA = row.get("제품코드A");
+            String codeB = row.get("제품코드B");
+            if (codeA.isEmpty() || codeB.isEmpty()) return null;
+            return new Object[]{codeA, row.get("제품명A"), codeB, row.get("제품명B"),
+                    row.get("상세정보"), row.get("비고")};
+        }
+
+        @Override
+        boolean isCombination() {
+            return true;
+        }
+    };
+
+    private final String fileName;
+
+    DurCsvFile(String fileName) {
+        this.fileName = fileName;
+    }
+
+    String fileName() {
+        return fileName;
+    }
+
+    boolean isCombination() {
+        return false;
+    }
+
+    abstract Object[] toRow(CsvRow row);
+
+    private static Object[] durInfo(CsvRow row, String typeName, String content) {
+        String itemCode = row.get("제품코드");
+        if (itemCode.isEmpty()) return null;
+        return new Object[]{itemCode, row.get("제품명"), typeName, content, row.get("비고")};
+    }
+}
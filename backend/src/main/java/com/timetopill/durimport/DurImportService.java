@@ -0,0 +1,166 @@
+package com.timetopill.durimport;
+
+import com.timetopill.config.TableNames;
+import com.timetopill.event.DurDataImportedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 식약처 DUR CSV 일괄 적재 (기존 import_dur_csv.py 대체)
+ * 1) 운영 테이블과 같은 구조의 그림자 테이블(*_new) 생성
+ * 2) CSV 를 한 줄씩 읽으며 JDBC 배치 INSERT
+ * 3) 전부 성공하면 RENAME TABLE 한 번으로 운영 테이블과 교체 (원자적 → 적재 중에도 기존 데이터로 계속 서비스)
+ * 4) DurDataImportedEvent 발행 → 메모리 DUR 색인/검색 캐시 갱신
+ * 5) 이전 테이블(*_old) 삭제 - 실패해도 경고만 (교체는 이미 끝남)
+ * 교체 전에 하나라도 실패하면 교체하지 않고 그림자 테이블만 지움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DurImportService {
+
+    private static final int BATCH_SIZE = 2000;
+    private static final int MAX_CONTENT_LENGTH = 1000;   // dur_info.prohibited_content 컬럼 길이
+
+    private static final String DUR_INFO = TableNames.DUR_INFO;
+    private static final String DUR_COMBINATION = TableNames.DUR_COMBINATION_INFO;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${dur.import.dir:data/dur}")
+    private String importDir;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public String importAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("DUR 데이터 적재가 이미 진행 중입니다.");
+        }
+        try {
+            return runImport(Paths.get(importDir));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private String runImport(Path dir) {
+        long start = System.currentTimeMillis();
+
+        // 파일이 하나라도 없으면 시작하지 않음 (일부만 교체되는 일 방지)
+        for (DurCsvFile file : DurCsvFile.values()) {
+            if (!Files.isReadable(dir.resolve(file.fileName()))) {
+                throw new IllegalArgumentException("DUR CSV 파일을 찾을 수 없습니다: " + dir.resolve(file.fileName()));
+            }
+        }
+
+        // 1) 그림자 테이블 준비
+        dropShadowTables();
+        jdbcTemplate.execute("CREATE TABLE " + shadow(DUR_INFO) + " LIKE " + DUR_INFO);
+        jdbcTemplate.execute("CREATE TABLE " + shadow(DUR_COMBINATION) + " LIKE " + DUR_COMBINATION);
+
+        int total = 0;
+        try {
+            // 2) 파일별 스트리밍 적재
+            for (DurCsvFile file : DurCsvFile.values()) {
+                long fileStart = System.currentTimeMillis();
+                int saved = load(dir.resolve(file.fileName()), file);
+                log.info(">>> '{}' {}건 적재 ({}ms)", file.fileName(), saved, System.currentTimeMillis() - fileStart);
+                total += saved;
+            }
+
+            // 3) 원자적 교체
+            dropOldTables();
+            jdbcTemplate.execute("RENAME TABLE "
+                    + DUR_INFO + " TO " + old(DUR_INFO) + ", "
+                    + shadow(DUR_INFO) + " TO " + DUR_INFO + ", "
+                    + DUR_COMBINATION + " TO " + old(DUR_COMBINATION) + ", "
+                    + shadow(DUR_COMBINATION) + " TO " + DUR_COMBINATION);
+        } catch (Exception e) {
+            log.error("❌ DUR 적재 실패 - 운영 테이블은 그대로 유지합니다.", e);
+            dropShadowTables();
+            throw new IllegalStateException("DUR 데이터 적재 실패: " + e.getMessage(), e);
+        }
+
+        // 4) 교체가 끝났으면 운영 테이블은 이미 새 데이터 → 메모리 색인/캐시 갱신
+        eventPublisher.publishEvent(new DurDataImportedEvent(total));
+
+        // 5) 이전 테이블 정리 (실패해도 적재 결과와 무관, 다음 적재 때 다시 지움)
+        try {
+            dropOldTables();
+        } catch (Exception e) {
+            log.warn("⚠️ 이전 DUR 테이블({}, {}) 삭제 실패 - 다음 적재 때 다시 지웁니다.",
+                    old(DUR_INFO), old(DUR_COMBINATION), e);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("✅ DUR 적재 완료: 총 {}건 ({}ms)", total, elapsed);
+        return "DUR 데이터 적재 완료! 총 " + total + "건 (" + elapsed + "ms)";
+    }
+
+    private int load(Path path, DurCsvFile file) throws IOException {
+        String sql = file.isCombination()
+                ? "INSERT INTO " + shadow(DUR_COMBINATION)
+                  + " (item_code_a, item_name_a, item_code_b, item_name_b, prohibited_content, remark) VALUES (?, ?, ?, ?, ?, ?)"
+                : "INSERT INTO " + shadow(DUR_INFO)
+                  + " (item_code, item_name, type_name, prohibited_content, remark) VALUES (?, ?, ?, ?, ?)";
+
+        int saved = 0;
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        try (CsvReader reader = CsvReader.open(path)) {
+            List<String> header = reader.readRecord();
+            if (header == null) return 0;
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) columns.put(header.get(i).trim(), i);
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                Object[] row = file.toRow(new CsvRow(columns, record));
+                if (row == null) continue;
+                if (!file.isCombination()) row[3] = truncate((String) row[3]);
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(sql, batch);
+                    saved += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            saved += batch.size();
+        }
+        return saved;
+    }
+
+    private void dropShadowTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + shadow(DUR_INFO) + ", " + shadow(DUR_COMBINATION));
+    }
+
+    private void dropOldTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + old(DUR_INFO) + ", " + old(DUR_COMBINATION));
+    }
+
+    private static String truncate(String text) {
+        return text.length() > MAX_CONTENT_LENGTH ? text.substring(0, MAX_CONTENT_LENGTH) : text;
+    }
+
+    private static String shadow(String table) {
+        return table + "_new";
+    }
+
+    private static String old(String table) {
+        return table + "_old";
+    }
+}
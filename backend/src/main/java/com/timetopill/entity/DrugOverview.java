@@ -30,6 +30,10 @@ public class DrugOverview {
     @Column(name = "warning_text_1", length = 4000) // 파이썬: warning_text_1
     private String warningText1;
 
+    // 위 내용 컬럼들의 SHA-256 (delta 적재 시 변경 여부 비교용)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     // 주성분 (파이썬 스크립트에 이 컬럼이 없다면 에러가 날 수 있으니 일단 주석 처리하거나 확인 필요)
     // @Column(name = "main_item_ingr")
     // private String mainIngr;
@@ -0,0 +1,44 @@
+package com.timetopill.entity;
+
+import com.timetopill.config.TableNames;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 식약처 API 적재 진행 상황 (DrugFetchService 가 페이지 커밋마다 같은 트랜잭션에서 갱신)
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = TableNames.INGESTION_CHECKPOINT)
+public class IngestionCheckpoint {
+
+    @Id
+    @Column(name = "source")
+    private String source;
+
+    @Column(name = "run_id", nullable = false)
+    private String runId;
+
+    // 1페이지부터 빠짐없이 커밋된 마지막 페이지 (재개 시 다음 페이지부터)
+    @Column(name = "last_page", nullable = false)
+    private int lastPage;
+
+    @Column(name = "total_pages", nullable = false)
+    private int totalPages;
+
+    // 이 실행의 페이지당 요청 건수 (lastPage 는 이 크기 기준)
+    @Column(name = "page_size", nullable = false)
+    private int pageSize;
+
+    @Column(name = "saved_count", nullable = false)
+    private int savedCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,21 @@
+package com.timetopill.entity;
+
+import com.timetopill.config.TableNames;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 약별 내 약통 등록 수 (PillService 추가/삭제 시 증감)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = TableNames.PILL_POPULARITY)
+public class PillPopularity {
+
+    @Id
+    @Column(name = "item_seq")
+    private String itemSeq;
+
+    @Column(name = "add_count", nullable = false)
+    private long addCount;
+}
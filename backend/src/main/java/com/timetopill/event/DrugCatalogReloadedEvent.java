@@ -0,0 +1,9 @@
+package com.timetopill.event;
+
+import com.timetopill.index.DrugCatalog;
+
+/**
+ * 메모리 약품 카탈로그(ordinal 테이블)가 새로 만들어졌을 때 발행되는 이벤트
+ * - ordinal 기반 색인들은 이 이벤트를 받아 같은 스냅샷으로 다시 빌드해야 함
+ */
+public record DrugCatalogReloadedEvent(DrugCatalog.Snapshot snapshot) {}
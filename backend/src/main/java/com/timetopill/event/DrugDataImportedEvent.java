@@ -0,0 +1,19 @@
+package com.timetopill.event;
+
+import java.util.Set;
+
+/**
+ * drug_overview 테이블 적재(식약처 API 동기화)가 끝났을 때 발행되는 이벤트
+ * - 트랜잭션 안에서 발행되면 커밋 이후에 리스너가 실행됨
+ * - changedItemSeqs: 이번 적재에서 새로 들어오거나 내용이 바뀌어 다시 쓴 약 (비어 있으면 바뀐 것 없음)
+ */
+public record DrugDataImportedEvent(Set<String> changedItemSeqs) {
+
+    public int savedCount() {
+        return changedItemSeqs.size();
+    }
+
+    public boolean hasChanges() {
+        return !changedItemSeqs.isEmpty();
+    }
+}
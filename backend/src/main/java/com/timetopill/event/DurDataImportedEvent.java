@@ -0,0 +1,7 @@
+package com.timetopill.event;
+
+/**
+ * dur_info / dur_combination_info 적재가 끝났을 때 발행되는 이벤트
+ * - DUR 정보를 메모리에 들고 있는 컴포넌트(검색 캐시 등)는 이 이벤트로 비움
+ */
+public record DurDataImportedEvent(int savedCount) {}
@@ -0,0 +1,7 @@
+package com.timetopill.event;
+
+/**
+ * 내 약통에 약이 추가/삭제되었을 때 발행되는 이벤트 (PillService)
+ * - 인기 약품 카운터(PillPopularityService)는 커밋 이후에 이 이벤트로 갱신 → 카운터 실패가 약 추가를 되돌리지 않음
+ */
+public record PillboxChangedEvent(String itemSeq, boolean added) {}
@@ -0,0 +1,130 @@
+package com.timetopill.index;
+
+import com.timetopill.event.DrugCatalogReloadedEvent;
+import com.timetopill.event.DrugDataImportedEvent;
+import com.timetopill.repository.DrugOverviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * drug_overview 의 메모리 카탈로그
+ * - itemSeq 오름차순으로 0..n-1 의 dense ordinal 을 부여
+ * - 약 이름(itemName) bigram/trigram 역색인을 함께 보관 → 이름 검색 시 DB LIKE 스캔 불필요
+ * - 앱 기동 완료 시 / 약 데이터 적재 완료 시 통째로 다시 빌드 후 스냅샷 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrugCatalog {
+
+    private final DrugOverviewRepository drugRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        load();
+    }
+
+    // 바뀐 약이 없는 적재(delta 적재 등)면 재빌드/하위 색인 갱신 생략
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDrugDataImported(DrugDataImportedEvent event) {
+        if (!event.hasChanges()) {
+            log.info("DrugCatalog 재빌드 생략: 변경된 약 없음");
+            return;
+        }
+        load();
+    }
+
+    public void load() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("DrugCatalog 로드 실패 (테이블이 없거나 비어있음): {}", e.getMessage());
+            log.warn("이름 검색은 DB LIKE 검색으로 동작합니다.");
+        }
+    }
+
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = drugRepository.findAllNameRows();
+
+        String[] itemSeqs = new String[rows.size()];
+        String[] itemNames = new String[rows.size()];
+        Map<String, Integer> ordinals = new HashMap<>(rows.size() * 2);
+
+        for (int ord = 0; ord < rows.size(); ord++) {
+            Object[] row = rows.get(ord);
+            itemSeqs[ord] = (String) row[0];
+            itemNames[ord] = (String) row[1];
+            ordinals.put(itemSeqs[ord], ord);
+        }
+
+        Snapshot next = new Snapshot(itemSeqs, itemNames, ordinals, NgramIndex.build(itemNames));
+        this.snapshot = next;
+        log.info("DrugCatalog 로드 완료: 약품 {}개 ({}ms)", next.size(), System.currentTimeMillis() - start);
+
+        eventPublisher.publishEvent(new DrugCatalogReloadedEvent(next));
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷 (ordinal 은 스냅샷 안에서만 유효)
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], Map.of(), NgramIndex.build(new String[0]));
+
+        private final String[] itemSeqs;
+        private final String[] itemNames;
+        private final Map<String, Integer> ordinals;
+        private final NgramIndex nameIndex;
+
+        private Snapshot(String[] itemSeqs, String[] itemNames, Map<String, Integer> ordinals, NgramIndex nameIndex) {
+            this.itemSeqs = itemSeqs;
+            this.itemNames = itemNames;
+            this.ordinals = ordinals;
+            this.nameIndex = nameIndex;
+        }
+
+        public int size() {
+            return itemSeqs.length;
+        }
+
+        public boolean isEmpty() {
+            return itemSeqs.length == 0;
+        }
+
+        public String itemSeq(int ordinal) {
+            return itemSeqs[ordinal];
+        }
+
+        public String itemName(int ordinal) {
+            return itemNames[ordinal];
+        }
+
+        /** 카탈로그에 없는 itemSeq 면 -1 */
+        public int ordinalOf(String itemSeq) {
+            Integer ord = itemSeq == null ? null : ordinals.get(itemSeq);
+            return ord == null ? -1 : ord;
+        }
+
+        /** 이름에 keyword 가 포함된 약품 ordinal 목록 (itemSeq 오름차순) */
+        public int[] searchName(String keyword) {
+            return nameIndex.search(keyword);
+        }
+    }
+}
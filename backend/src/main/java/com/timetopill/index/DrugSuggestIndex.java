@@ -0,0 +1,74 @@
+package com.timetopill.index;
+
+import com.timetopill.event.DrugCatalogReloadedEvent;
+import com.timetopill.symptommapper.mapping.NormUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 약 이름 자동완성 색인
+ * - 이름 접두어: "타이레" -> 타이레놀...
+ * - 초성 접두어: "ㅌㅇㄹㄴ" -> 타이레놀... (NormUtil 한글 분해 테이블로 초성 투영)
+ * - 키는 공백 제거 + 소문자 (NormUtil.normKey)
+ */
+@Slf4j
+@Component
+public class DrugSuggestIndex {
+
+    private volatile Snapshot snapshot;
+
+    @EventListener
+    public void onCatalogReloaded(DrugCatalogReloadedEvent event) {
+        rebuild(event.snapshot());
+    }
+
+    public void rebuild(DrugCatalog.Snapshot catalog) {
+        long start = System.currentTimeMillis();
+        String[] nameKeys = new String[catalog.size()];
+        String[] chosungKeys = new String[catalog.size()];
+
+        for (int ord = 0; ord < catalog.size(); ord++) {
+            String name = catalog.itemName(ord);
+            if (name == null) continue;
+            nameKeys[ord] = NormUtil.normKey(name);
+            chosungKeys[ord] = NormUtil.toChosung(nameKeys[ord]);
+        }
+
+        this.snapshot = new Snapshot(catalog, PrefixIndex.build(nameKeys), PrefixIndex.build(chosungKeys));
+        log.info("DrugSuggestIndex 빌드 완료: 약품 {}개 ({}ms)", catalog.size(), System.currentTimeMillis() - start);
+    }
+
+    /** 색인이 아직 없으면 null */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public static final class Snapshot {
+
+        private final DrugCatalog.Snapshot catalog;
+        private final PrefixIndex byName;
+        private final PrefixIndex byChosung;
+
+        private Snapshot(DrugCatalog.Snapshot catalog, PrefixIndex byName, PrefixIndex byChosung) {
+            this.catalog = catalog;
+            this.byName = byName;
+            this.byChosung = byChosung;
+        }
+
+        public DrugCatalog.Snapshot catalog() {
+            return catalog;
+        }
+
+        /** 접두어가 일치하는 약품 ordinal 최대 limit 개 (초성이 섞인 입력은 초성 색인 사용) */
+        public int[] suggest(String keyword, int limit) {
+            String key = NormUtil.normKey(keyword);
+            if (key.isEmpty()) return new int[0];
+
+            if (NormUtil.hasChosung(key)) {
+                return byChosung.prefixMatches(NormUtil.toChosung(key), limit);
+            }
+            return byName.prefixMatches(key, limit);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.timetopill.index;
+
+import com.timetopill.event.DurDataImportedEvent;
+import com.timetopill.repository.DurCombinationInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * dur_combination_info 병용금기 그래프 (메모리)
+ * - 제품코드(item_code)마다 0..n-1 의 dense id 부여 (drug_overview 카탈로그와 별개 - DUR 에만 있는 코드도 포함)
+ * - 인접 리스트는 CSR 형태: offsets[id] ~ offsets[id+1] 구간이 id 의 이웃 (오름차순, 중복 제거)
+ * - 앱 기동 완료 시 / DUR 적재 완료 시 통째로 다시 빌드 후 스냅샷 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DurInteractionIndex {
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private final DurCombinationInfoRepository combinationRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        load();
+    }
+
+    @EventListener
+    public void onDurDataImported(DurDataImportedEvent event) {
+        load();
+    }
+
+    public void load() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("DurInteractionIndex 빌드 실패 (dur_combination_info 테이블 확인 필요): {}", e.getMessage());
+            log.warn("병용금기 확인은 DB 조회로 동작합니다.");
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        // 1) 행을 id 키셋 페이징으로 읽으며 코드 -> dense id, 간선 목록(양방향) 수집
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> codes = new ArrayList<>();
+        IntList from = new IntList();
+        IntList to = new IntList();
+
+        long after = 0L;
+        while (true) {
+            List<Object[]> rows = combinationRepository.findPairRowsAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (rows.isEmpty()) break;
+
+            for (Object[] row : rows) {
+                String codeA = (String) row[1];
+                String codeB = (String) row[2];
+                if (codeA == null || codeB == null || codeA.equals(codeB)) continue;
+                int a = ids.computeIfAbsent(codeA, k -> { codes.add(k); return codes.size() - 1; });
+                int b = ids.computeIfAbsent(codeB, k -> { codes.add(k); return codes.size() - 1; });
+                from.add(a); to.add(b);
+                from.add(b); to.add(a);
+            }
+            after = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        }
+
+        // 2) CSR 변환 (차수 세기 → 구간 채우기 → 구간별 정렬/중복 제거)
+        int n = codes.size();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < from.size(); i++) offsets[from.get(i) + 1]++;
+        for (int i = 0; i < n; i++) offsets[i + 1] += offsets[i];
+
+        int[] fill = Arrays.copyOf(offsets, n);
+        int[] raw = new int[from.size()];
+        for (int i = 0; i < from.size(); i++) raw[fill[from.get(i)]++] = to.get(i);
+
+        int[] compactOffsets = new int[n + 1];
+        int[] neighbours = new int[raw.length];
+        int w = 0;
+        for (int id = 0; id < n; id++) {
+            Arrays.sort(raw, offsets[id], offsets[id + 1]);
+            compactOffsets[id] = w;
+            for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                if (w > compactOffsets[id] && neighbours[w - 1] == raw[i]) continue;
+                neighbours[w++] = raw[i];
+            }
+        }
+        compactOffsets[n] = w;
+
+        Snapshot next = new Snapshot(codes.toArray(new String[0]), ids, compactOffsets, Arrays.copyOf(neighbours, w));
+        this.snapshot = next;
+        log.info("DurInteractionIndex 빌드 완료: 약품코드 {}개, 병용금기 쌍 {}개 ({}ms)",
+                n, w / 2, System.currentTimeMillis() - start);
+    }
+
+    /** 그래프가 아직 없으면 null */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public static final class Snapshot {
+
+        private final String[] codes;
+        private final Map<String, Integer> ids;
+        private final int[] offsets;
+        private final int[] neighbours;
+
+        private Snapshot(String[] codes, Map<String, Integer> ids, int[] offsets, int[] neighbours) {
+            this.codes = codes;
+            this.ids = ids;
+            this.offsets = offsets;
+            this.neighbours = neighbours;
+        }
+
+        /** 병용금기 데이터에 없는 코드면 -1 */
+        public int idOf(String code) {
+            Integer id = code == null ? null : ids.get(code);
+            return id == null ? -1 : id;
+        }
+
+        public String code(int id) {
+            return codes[id];
+        }
+
+        public int degree(int id) {
+            return offsets[id + 1] - offsets[id];
+        }
+
+        /** 두 코드가 병용금기 관계인지 (이웃 구간 이진 탐색) */
+        public boolean conflicts(String codeA, String codeB) {
+            int a = idOf(codeA);
+            int b = idOf(codeB);
+            if (a < 0 || b < 0) return false;
+            return Arrays.binarySearch(neighbours, offsets[a], offsets[a + 1], b) >= 0;
+        }
+
+        /** code 와 병용금기인 코드 중 others 에 들어있는 것 - O(차수) */
+        public List<String> conflictsWith(String code, Set<String> others) {
+            int id = idOf(code);
+            if (id < 0 || others.isEmpty()) return List.of();
+            List<String> result = new ArrayList<>();
+            for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                String other = codes[neighbours[i]];
+                if (others.contains(other)) result.add(other);
+            }
+            return result;
+        }
+
+        /** codes 안에서 병용금기인 모든 쌍 (각 쌍은 한 번만) - O(차수 합) */
+        public List<Pair> conflictsAmong(Collection<String> codes) {
+            Set<Integer> members = new HashSet<>();
+            for (String code : codes) {
+                int id = idOf(code);
+                if (id >= 0) members.add(id);
+            }
+            List<Pair> result = new ArrayList<>();
+            for (int id : members) {
+                for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                    int other = neighbours[i];
+                    if (other > id && members.contains(other)) {
+                        result.add(new Pair(this.codes[id], this.codes[other]));
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    public record Pair(String codeA, String codeB) {}
+}
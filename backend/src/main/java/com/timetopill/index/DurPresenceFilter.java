@@ -0,0 +1,158 @@
+package com.timetopill.index;
+
+import com.timetopill.event.DrugCatalogReloadedEvent;
+import com.timetopill.event.DurDataImportedEvent;
+import com.timetopill.repository.DurCombinationInfoRepository;
+import com.timetopill.repository.DurInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * "이 약에 DUR 정보가 있을 수 있나" 메모리 필터 (카탈로그 ordinal 비트셋)
+ * - durInfo: dur_info 행이 하나라도 있는 약
+ * - combination: dur_combination_info 에 한쪽으로라도 등장하는 약
+ * - 프로필 유형(임부금기/노인주의/연령금기)별 비트셋 + 유형 조합(마스크)별 OR 결과를 미리 계산
+ * - 비트가 꺼져 있으면 DB 조회 없이 "없음" 으로 처리, 카탈로그에 없는 itemSeq 는 "있을 수 있음" 으로 취급
+ * - 카탈로그 재빌드 / DUR 적재 완료 시 다시 빌드
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DurPresenceFilter {
+
+    private final DurInfoRepository durInfoRepository;
+    private final DurCombinationInfoRepository combinationRepository;
+    private final DrugCatalog drugCatalog;
+
+    private volatile Snapshot snapshot;
+
+    // 검색 결과 캐시(SearchResultCache)가 비워지기 전에 새 필터로 교체되어야 함
+    @Order(0)
+    @EventListener
+    public void onCatalogReloaded(DrugCatalogReloadedEvent event) {
+        load(event.snapshot());
+    }
+
+    @Order(0)
+    @EventListener
+    public void onDurDataImported(DurDataImportedEvent event) {
+        load(drugCatalog.snapshot());
+    }
+
+    public void load(DrugCatalog.Snapshot catalog) {
+        try {
+            rebuild(catalog);
+        } catch (Exception e) {
+            log.warn("DurPresenceFilter 빌드 실패 (DUR 테이블 확인 필요): {}", e.getMessage());
+            log.warn("DUR 정보는 약마다 DB 조회로 확인합니다.");
+        }
+    }
+
+    public synchronized void rebuild(DrugCatalog.Snapshot catalog) {
+        if (catalog.isEmpty()) {
+            this.snapshot = null;
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        BitSet durInfo = new BitSet(catalog.size());
+        BitSet[] byType = new BitSet[ProfileDurType.values().length];
+        for (int t = 0; t < byType.length; t++) byType[t] = new BitSet(catalog.size());
+
+        for (Object[] row : durInfoRepository.findDistinctItemCodeAndTypeNames()) {
+            int ord = catalog.ordinalOf((String) row[0]);
+            if (ord < 0) continue;
+            durInfo.set(ord);
+            ProfileDurType type = ProfileDurType.ofTypeName((String) row[1]);
+            if (type != null) byType[type.ordinal()].set(ord);
+        }
+
+        BitSet combination = toBits(catalog, combinationRepository.findDistinctItemCodesA());
+        combination.or(toBits(catalog, combinationRepository.findDistinctItemCodesB()));
+
+        // 유형 조합(마스크)별 합집합 - 조회 시 OR 연산도 생략
+        BitSet[] byMask = new BitSet[ProfileDurType.MASK_COUNT];
+        byMask[0] = new BitSet();
+        for (int mask = 1; mask < byMask.length; mask++) {
+            int low = Integer.numberOfTrailingZeros(mask);
+            BitSet bits = (BitSet) byMask[mask & (mask - 1)].clone();
+            bits.or(byType[low]);
+            byMask[mask] = bits;
+        }
+
+        this.snapshot = new Snapshot(catalog, durInfo, combination, byType, byMask);
+        log.info("DurPresenceFilter 빌드 완료: 금기정보 보유 {}개, 병용금기 보유 {}개 / 약품 {}개 ({}ms)",
+                durInfo.cardinality(), combination.cardinality(), catalog.size(), System.currentTimeMillis() - start);
+    }
+
+    private static BitSet toBits(DrugCatalog.Snapshot catalog, Collection<String> itemCodes) {
+        BitSet bits = new BitSet(catalog.size());
+        for (String code : itemCodes) {
+            int ord = catalog.ordinalOf(code);
+            if (ord >= 0) bits.set(ord);
+        }
+        return bits;
+    }
+
+    /** 필터가 아직 없으면 null (→ 모든 약을 "있을 수 있음" 으로 취급) */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public static final class Snapshot {
+
+        private final DrugCatalog.Snapshot catalog;
+        private final BitSet durInfo;
+        private final BitSet combination;
+        private final BitSet[] byType;
+        private final BitSet[] byMask;
+
+        private Snapshot(DrugCatalog.Snapshot catalog, BitSet durInfo, BitSet combination,
+                         BitSet[] byType, BitSet[] byMask) {
+            this.catalog = catalog;
+            this.durInfo = durInfo;
+            this.combination = combination;
+            this.byType = byType;
+            this.byMask = byMask;
+        }
+
+        /** 비트셋 ordinal 의 기준 카탈로그 */
+        public DrugCatalog.Snapshot catalog() {
+            return catalog;
+        }
+
+        /** 마스크에 포함된 유형 중 하나라도 해당하는 약 (읽기 전용) */
+        public BitSet contraindicatedFor(int mask) {
+            return byMask[mask];
+        }
+
+        /** 약이 해당하는 프로필 유형 중 mask 에 포함된 것 (카탈로그에 없으면 0) */
+        public int matchingTypes(String itemSeq, int mask) {
+            int ord = catalog.ordinalOf(itemSeq);
+            if (ord < 0 || mask == 0) return 0;
+            int result = 0;
+            for (ProfileDurType type : ProfileDurType.values()) {
+                if ((mask & type.bit()) != 0 && byType[type.ordinal()].get(ord)) result |= type.bit();
+            }
+            return result;
+        }
+
+        /** dur_info 행이 있을 수 있는 약인지 (false 면 확실히 없음) */
+        public boolean mayHaveDurInfo(String itemSeq) {
+            int ord = catalog.ordinalOf(itemSeq);
+            return ord < 0 || durInfo.get(ord);
+        }
+
+        /** 병용금기 쌍에 등장할 수 있는 약인지 (false 면 확실히 없음) */
+        public boolean mayHaveCombination(String itemSeq) {
+            int ord = catalog.ordinalOf(itemSeq);
+            return ord < 0 || combination.get(ord);
+        }
+    }
+}
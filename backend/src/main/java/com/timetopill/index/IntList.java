@@ -0,0 +1,41 @@
+package com.timetopill.index;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없는 가변 int 배열 (색인 빌드용)
+ */
+final class IntList {
+
+    private int[] data;
+    private int size;
+
+    IntList() {
+        this(4);
+    }
+
+    IntList(int capacity) {
+        this.data = new int[Math.max(capacity, 1)];
+    }
+
+    void add(int v) {
+        if (size == data.length) data = Arrays.copyOf(data, size * 2);
+        data[size++] = v;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int i) {
+        return data[i];
+    }
+
+    void set(int i, int v) {
+        data[i] = v;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+}
@@ -0,0 +1,122 @@
+package com.timetopill.index;
+
+import java.util.*;
+
+/**
+ * 문자 bigram/trigram 역색인 (부분 문자열 검색용)
+ * - 키: 소문자로 정규화된 문자열, 값: 해당 n-gram을 포함하는 ordinal 목록(오름차순 int[])
+ * - 검색 결과는 LIKE '%keyword%' 와 동일한 집합을 ordinal 오름차순으로 돌려줌
+ */
+public final class NgramIndex {
+
+    private final String[] keys;                 // ordinal -> 정규화된 문자열 (null 이면 매칭 대상 아님)
+    private final Map<String, int[]> bigrams;
+    private final Map<String, int[]> trigrams;
+
+    private NgramIndex(String[] keys, Map<String, int[]> bigrams, Map<String, int[]> trigrams) {
+        this.keys = keys;
+        this.bigrams = bigrams;
+        this.trigrams = trigrams;
+    }
+
+    public static NgramIndex build(String[] values) {
+        String[] keys = new String[values.length];
+        Map<String, IntList> bi = new HashMap<>();
+        Map<String, IntList> tri = new HashMap<>();
+
+        for (int ord = 0; ord < values.length; ord++) {
+            if (values[ord] == null) continue;
+            String key = normalize(values[ord]);
+            keys[ord] = key;
+            addGrams(bi, key, 2, ord);
+            addGrams(tri, key, 3, ord);
+        }
+        return new NgramIndex(keys, freeze(bi), freeze(tri));
+    }
+
+    public static String normalize(String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /** keyword 를 부분 문자열로 포함하는 ordinal 목록 (오름차순) */
+    public int[] search(String keyword) {
+        String kw = normalize(keyword);
+
+        // 1) 빈 검색어: LIKE '%%' 처럼 값이 있는 모든 항목
+        // 2) 한 글자: n-gram 이 없으므로 메모리 상에서 선형 스캔
+        if (kw.length() < 2) {
+            IntList out = new IntList();
+            for (int ord = 0; ord < keys.length; ord++) {
+                if (keys[ord] != null && keys[ord].contains(kw)) out.add(ord);
+            }
+            return out.toArray();
+        }
+
+        // 3) 두 글자: bigram 포스팅 리스트 자체가 정답
+        if (kw.length() == 2) {
+            int[] posting = bigrams.get(kw);
+            return posting == null ? new int[0] : posting.clone();
+        }
+
+        // 4) 세 글자 이상: trigram 포스팅 교집합 후 실제 포함 여부 검증
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i <= kw.length() - 3; i++) grams.add(kw.substring(i, i + 3));
+
+        List<int[]> postings = new ArrayList<>(grams.size());
+        for (String g : grams) {
+            int[] posting = trigrams.get(g);
+            if (posting == null) return new int[0];
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(p -> p.length)); // 짧은 리스트부터 교집합
+
+        int[] candidates = postings.get(0);
+        for (int i = 1; i < postings.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, postings.get(i));
+        }
+
+        IntList out = new IntList();
+        for (int ord : candidates) {
+            if (keys[ord].contains(kw)) out.add(ord);
+        }
+        return out.toArray();
+    }
+
+    private static void addGrams(Map<String, IntList> index, String key, int n, int ord) {
+        if (key.length() < n) return;
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i <= key.length() - n; i++) {
+            String gram = key.substring(i, i + n);
+            if (seen.add(gram)) {
+                index.computeIfAbsent(gram, k -> new IntList()).add(ord);
+            }
+        }
+    }
+
+    private static Map<String, int[]> freeze(Map<String, IntList> index) {
+        Map<String, int[]> out = new HashMap<>(index.size() * 2);
+        for (Map.Entry<String, IntList> e : index.entrySet()) {
+            out.put(e.getKey(), e.getValue().toArray());
+        }
+        return out;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
@@ -0,0 +1,61 @@
+package com.timetopill.index;
+
+import java.util.Arrays;
+
+/**
+ * 정렬 배열 기반 접두어 색인 (자동완성용)
+ * - 키를 사전순으로 정렬해 두고 이진 탐색으로 접두어 구간의 시작을 찾음
+ * - 트라이 노드 객체 없이 String[] + int[] 두 배열만 사용 → 메모리 고정
+ */
+final class PrefixIndex {
+
+    private final String[] keys;   // 사전순 정렬
+    private final int[] ordinals;  // keys[i] 의 약품 ordinal
+
+    private PrefixIndex(String[] keys, int[] ordinals) {
+        this.keys = keys;
+        this.ordinals = ordinals;
+    }
+
+    /** keysByOrdinal[ord] 가 null 이면 색인하지 않음 */
+    static PrefixIndex build(String[] keysByOrdinal) {
+        Integer[] order = new Integer[keysByOrdinal.length];
+        int n = 0;
+        for (int ord = 0; ord < keysByOrdinal.length; ord++) {
+            if (keysByOrdinal[ord] != null && !keysByOrdinal[ord].isEmpty()) order[n++] = ord;
+        }
+        Integer[] present = Arrays.copyOf(order, n);
+        Arrays.sort(present, (a, b) -> {
+            int c = keysByOrdinal[a].compareTo(keysByOrdinal[b]);
+            return c != 0 ? c : Integer.compare(a, b);
+        });
+
+        String[] keys = new String[n];
+        int[] ordinals = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keysByOrdinal[present[i]];
+            ordinals[i] = present[i];
+        }
+        return new PrefixIndex(keys, ordinals);
+    }
+
+    /** prefix 로 시작하는 키의 ordinal 을 사전순으로 최대 limit 개 */
+    int[] prefixMatches(String prefix, int limit) {
+        int[] out = new int[Math.max(0, limit)];
+        int n = 0;
+        for (int i = lowerBound(prefix); i < keys.length && n < limit && keys[i].startsWith(prefix); i++) {
+            out[n++] = ordinals[i];
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
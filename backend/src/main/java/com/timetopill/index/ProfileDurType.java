@@ -0,0 +1,88 @@
+package com.timetopill.index;
+
+import com.timetopill.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 프로필(나이/성별)에 따라 의미가 있는 DUR 유형 묶음
+ * - typeNames: dur_info.type_name 값 (DurCsvFile 파일별 유형 이름, DurImportService 가 적재)
+ * - 비트 마스크(1 << ordinal)로 조합해서 사용
+ * - excludable: 검색 exclude=true 때 결과에서 뺄 수 있는 유형
+ *   연령금기는 약마다 기준 나이가 달라서(예: "12세 미만") 19세 미만 전체에 대해 빼면 해당 없는 약까지 숨김 → 표시만
+ */
+public enum ProfileDurType {
+    PREGNANCY("임부금기", Set.of("임부금기"), true),
+    ELDERLY("노인주의", Set.of("노인주의", "노인주의(해열진통소염제)"), true),
+    AGE("연령금기", Set.of("연령금기"), false);
+
+    static final int MASK_COUNT = 1 << values().length;
+
+    private static final int CHILD_AGE_LIMIT = 19;          // 연령금기는 대부분 소아/청소년 대상
+    private static final int ELDERLY_AGE = 65;
+    private static final int CHILDBEARING_MIN_AGE = 15;
+    private static final int CHILDBEARING_MAX_AGE = 49;
+
+    private final String label;
+    private final Set<String> typeNames;
+    private final boolean excludable;
+
+    ProfileDurType(String label, Set<String> typeNames, boolean excludable) {
+        this.label = label;
+        this.typeNames = typeNames;
+        this.excludable = excludable;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /** type_name 이 속한 유형, 프로필과 무관한 유형(병용금기 등)이면 null */
+    static ProfileDurType ofTypeName(String typeName) {
+        if (typeName == null) return null;
+        for (ProfileDurType type : values()) {
+            if (type.typeNames.contains(typeName)) return type;
+        }
+        return null;
+    }
+
+    /**
+     * 사용자에게 해당하는 유형 마스크
+     * - 임부금기: 여성 (나이를 알면 15~49세만)
+     * - 노인주의: 65세 이상
+     * - 연령금기: 19세 미만
+     */
+    public static int maskFor(Integer age, User.Gender gender) {
+        int mask = 0;
+        if (gender == User.Gender.F
+                && (age == null || (age >= CHILDBEARING_MIN_AGE && age <= CHILDBEARING_MAX_AGE))) {
+            mask |= PREGNANCY.bit();
+        }
+        if (age != null && age >= ELDERLY_AGE) mask |= ELDERLY.bit();
+        if (age != null && age < CHILD_AGE_LIMIT) mask |= AGE.bit();
+        return mask;
+    }
+
+    /** mask 중 검색 결과에서 뺄 수 있는 유형만 (나머지는 profileWarnings 표시만) */
+    public static int excludableMask(int mask) {
+        int result = 0;
+        for (ProfileDurType type : values()) {
+            if (type.excludable) result |= mask & type.bit();
+        }
+        return result;
+    }
+
+    public static List<String> labels(int mask) {
+        List<String> labels = new ArrayList<>();
+        for (ProfileDurType type : values()) {
+            if ((mask & type.bit()) != 0) labels.add(type.label);
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,79 @@
+package com.timetopill.index;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 증상 검색 관련도 점수 누적 + 상위 k개 선별
+ *
+ * 증상 하나에 대한 점수 = 매핑 신뢰도 × (1 + ln tf) × (0.5 + 0.5 × 위치 가중치)
+ *   - tf: 효능 본문에 증상이 나온 횟수
+ *   - 위치 가중치: 1 / (1 + 첫 등장 위치 / 100) → 본문 앞쪽(주 효능)일수록 1에 가까움, 위치를 모르면 0.5
+ * 약품 점수 = 증상 점수 합 × (커버한 증상 수 / 매핑된 증상 수)
+ * 정렬은 커버한 증상 수가 우선 → "두통, 발열" 둘 다 듣는 약이 한쪽만 듣는 약보다 항상 위
+ */
+public final class RelevanceRanking {
+
+    private static final double POSITION_SCALE = 100.0;
+    private static final double UNKNOWN_POSITION_WEIGHT = 0.5;
+
+    // 커버 증상 수 내림차순 → 점수 내림차순 → itemSeq 오름차순 (기존 결과 순서)
+    private static final Comparator<Scored> RANK_ORDER = Comparator
+            .comparingInt(Scored::coverage).reversed()
+            .thenComparing(Comparator.comparingDouble(Scored::score).reversed())
+            .thenComparing(Scored::itemSeq);
+
+    private final int symptomCount;
+    private final Map<String, Accumulator> accumulators = new HashMap<>();
+
+    public RelevanceRanking(int symptomCount) {
+        this.symptomCount = Math.max(symptomCount, 1);
+    }
+
+    /** firstPosition < 0 이면 위치 정보 없음 (LIKE 폴백 결과 등) */
+    public void add(String itemSeq, double confidence, int termFrequency, int firstPosition) {
+        double tfWeight = 1.0 + Math.log(Math.max(termFrequency, 1));
+        double positionWeight = firstPosition < 0
+                ? UNKNOWN_POSITION_WEIGHT
+                : 1.0 / (1.0 + firstPosition / POSITION_SCALE);
+
+        Accumulator acc = accumulators.computeIfAbsent(itemSeq, k -> new Accumulator());
+        acc.sum += confidence * tfWeight * (0.5 + 0.5 * positionWeight);
+        acc.coverage++;
+    }
+
+    /** 매핑된 증상을 모두 커버하지 못한 약품 제거 (op=all) */
+    public void retainFullCoverage() {
+        accumulators.values().removeIf(acc -> acc.coverage < symptomCount);
+    }
+
+    /** 조건에 맞는 약품 제거 (프로필 금기 약 제외 등) */
+    public void removeIf(Predicate<String> itemSeqFilter) {
+        accumulators.keySet().removeIf(itemSeqFilter);
+    }
+
+    public int size() {
+        return accumulators.size();
+    }
+
+    /** 상위 k개 (RANK_ORDER 순) - 크기 k 최소 힙으로 선별, O(n log k) */
+    public List<Scored> top(int k) {
+        if (k <= 0) return List.of();
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Math.min(k, accumulators.size()) + 1, RANK_ORDER.reversed());
+        for (Map.Entry<String, Accumulator> e : accumulators.entrySet()) {
+            Accumulator acc = e.getValue();
+            heap.offer(new Scored(e.getKey(), acc.sum * acc.coverage / symptomCount, acc.coverage));
+            if (heap.size() > k) heap.poll();
+        }
+        List<Scored> result = new ArrayList<>(heap);
+        result.sort(RANK_ORDER);
+        return result;
+    }
+
+    public record Scored(String itemSeq, double score, int coverage) {}
+
+    private static final class Accumulator {
+        double sum;
+        int coverage;
+    }
+}
@@ -0,0 +1,188 @@
+package com.timetopill.index;
+
+import com.timetopill.event.DrugCatalogReloadedEvent;
+import com.timetopill.repository.DrugOverviewRepository;
+import com.timetopill.symptommapper.mapping.SymptomDictionaryCache;
+import com.timetopill.symptommapper.mapping.SymptomDictionaryCache.AliasEntry;
+import com.timetopill.symptommapper.mapping.SymptomDictionaryCache.SymptomRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 증상(Symptom.id) -> 효능 본문(efficacy_text)에 해당 증상이 나오는 약품 ordinal 목록
+ * - 검색어: SymptomDictionaryCache 의 표준 증상명 + 별칭(2글자 이상)
+ * - 약품마다 등장 횟수(tf)와 첫 등장 위치도 함께 보관 → 관련도 점수 계산용
+ * - 증상별 약품 집합을 ordinal 비트셋(long[])으로도 보관 → 여러 증상 AND/OR 를 비트 연산으로 처리
+ * - 카탈로그가 다시 빌드될 때마다 본문을 한 번 훑어서 통째로 재구성 (메모리 보관)
+ * - 증상 검색은 efficacyText LIKE 스캔 대신 해시 조회 + 합집합
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SymptomDrugIndex {
+
+    private static final int LOAD_PAGE_SIZE = 2000;
+    private static final int MIN_ALIAS_LENGTH = 2;   // "열" 같은 한 글자 별칭은 본문에서 오탐이 많음
+
+    private final DrugOverviewRepository drugRepository;
+    private final SymptomDictionaryCache dictionary;
+
+    private volatile Snapshot snapshot;
+
+    // 검색 결과 캐시(SearchResultCache)가 비워지기 전에 새 색인으로 교체되어야 함
+    @Order(0)
+    @EventListener
+    public void onCatalogReloaded(DrugCatalogReloadedEvent event) {
+        try {
+            rebuild(event.snapshot());
+        } catch (Exception e) {
+            log.warn("SymptomDrugIndex 빌드 실패: {}", e.getMessage());
+            log.warn("증상 검색은 DB LIKE 검색으로 동작합니다.");
+        }
+    }
+
+    public synchronized void rebuild(DrugCatalog.Snapshot catalog) {
+        if (dictionary.isEmpty() || catalog.isEmpty()) {
+            this.snapshot = null;
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        // 1) 증상별 검색어 목록 (증상 id -> dense group 번호)
+        List<Long> symptomIds = new ArrayList<>(dictionary.getSymptomById().keySet());
+        Map<Long, Integer> groupOf = new HashMap<>();
+        for (int g = 0; g < symptomIds.size(); g++) groupOf.put(symptomIds.get(g), g);
+
+        Set<TermScanner.Term> terms = new HashSet<>();
+        for (SymptomRef ref : dictionary.getSymptomById().values()) {
+            terms.add(new TermScanner.Term(ref.displayNameKo(), groupOf.get(ref.id())));
+        }
+        for (AliasEntry entry : dictionary.getEntries()) {
+            Integer g = groupOf.get(entry.symptomId());
+            if (g == null || entry.text() == null || entry.text().length() < MIN_ALIAS_LENGTH) continue;
+            terms.add(new TermScanner.Term(entry.text(), g));
+        }
+        TermScanner scanner = new TermScanner(terms);
+
+        // 2) 효능 본문을 itemSeq 순서로 페이지 단위로 읽으며 한 번씩 스캔
+        int groups = symptomIds.size();
+        IntList[] ords = new IntList[groups];
+        IntList[] tfs = new IntList[groups];
+        IntList[] firstPositions = new IntList[groups];
+        for (int g = 0; g < groups; g++) {
+            ords[g] = new IntList();
+            tfs[g] = new IntList();
+            firstPositions[g] = new IntList();
+        }
+
+        String after = "";
+        while (true) {
+            List<Object[]> rows = drugRepository.findEfficacyRowsAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (rows.isEmpty()) break;
+
+            for (Object[] row : rows) {
+                int ord = catalog.ordinalOf((String) row[0]);
+                if (ord < 0) continue;  // 카탈로그 빌드 이후 추가된 약은 다음 재빌드 때 반영
+                scanner.scan((String) row[1], (group, position) -> {
+                    IntList list = ords[group];
+                    int last = list.size() - 1;
+                    if (last >= 0 && list.get(last) == ord) {
+                        tfs[group].set(last, tfs[group].get(last) + 1);
+                    } else {
+                        list.add(ord);
+                        tfs[group].add(1);
+                        firstPositions[group].add(position);
+                    }
+                });
+            }
+            after = (String) rows.get(rows.size() - 1)[0];
+        }
+
+        Map<Long, Postings> bySymptom = new HashMap<>(groups * 2);
+        for (int g = 0; g < groups; g++) {
+            int[] ordinals = ords[g].toArray();
+            BitSet bits = new BitSet(catalog.size());
+            for (int ord : ordinals) bits.set(ord);
+            bySymptom.put(symptomIds.get(g),
+                    new Postings(ordinals, tfs[g].toArray(), firstPositions[g].toArray(), bits));
+        }
+
+        this.snapshot = new Snapshot(catalog, bySymptom);
+        log.info("SymptomDrugIndex 빌드 완료: 증상 {}개, 검색어 {}개 ({}ms)",
+                symptomIds.size(), terms.size(), System.currentTimeMillis() - start);
+    }
+
+    /** 색인이 아직 없으면 null */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 불변 색인 스냅샷 - ordinal 은 함께 보관한 카탈로그 기준
+     */
+    public static final class Snapshot {
+
+        private final DrugCatalog.Snapshot catalog;
+        private final Map<Long, Postings> drugsBySymptom;
+
+        private Snapshot(DrugCatalog.Snapshot catalog, Map<Long, Postings> drugsBySymptom) {
+            this.catalog = catalog;
+            this.drugsBySymptom = drugsBySymptom;
+        }
+
+        public DrugCatalog.Snapshot catalog() {
+            return catalog;
+        }
+
+        public boolean contains(Long symptomId) {
+            return drugsBySymptom.containsKey(symptomId);
+        }
+
+        /** 모든 증상을 다 커버하는 약품 비트셋 (AND) */
+        public BitSet coveringAll(Collection<Long> symptomIds) {
+            BitSet result = null;
+            for (Long id : symptomIds) {
+                BitSet bits = drugsFor(id).bits();
+                if (result == null) result = (BitSet) bits.clone();
+                else result.and(bits);
+                if (result.isEmpty()) break;
+            }
+            return result == null ? new BitSet() : result;
+        }
+
+        /** 증상 중 하나라도 커버하는 약품 비트셋 (OR) */
+        public BitSet coveringAny(Collection<Long> symptomIds) {
+            BitSet result = new BitSet(catalog.size());
+            for (Long id : symptomIds) result.or(drugsFor(id).bits());
+            return result;
+        }
+
+        /** 증상이 나오는 약품 목록 (ordinal 오름차순), 색인에 없는 증상이면 빈 목록 */
+        public Postings drugsFor(Long symptomId) {
+            Postings postings = drugsBySymptom.get(symptomId);
+            return postings == null ? Postings.EMPTY : postings;
+        }
+    }
+
+    /**
+     * 한 증상의 포스팅 리스트 (세 배열은 같은 인덱스끼리 한 약품)
+     * - ordinals: 약품 ordinal 오름차순
+     * - termFrequencies: 효능 본문에 증상 검색어가 나온 횟수
+     * - firstPositions: 첫 등장 위치(문자 단위, 앞쪽일수록 주 효능일 가능성이 큼)
+     * - bits: ordinals 와 같은 집합의 비트셋 (읽기 전용으로만 사용, 연산 시 clone)
+     */
+    public record Postings(int[] ordinals, int[] termFrequencies, int[] firstPositions, BitSet bits) {
+
+        static final Postings EMPTY = new Postings(new int[0], new int[0], new int[0], new BitSet());
+
+        public int size() {
+            return ordinals.length;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.timetopill.index;
+
+import java.util.*;
+
+/**
+ * 여러 검색어를 한 번의 본문 스캔으로 찾는 다중 패턴 매처
+ * - 검색어를 첫 글자 기준으로 버킷에 나눠 두고, 본문의 각 위치에서 해당 버킷만 비교
+ * - 검색어마다 contains 를 돌리는 것보다 본문을 한 번만 읽음
+ */
+final class TermScanner {
+
+    /** 검색어와 그 검색어가 속한 그룹(예: 증상 index) */
+    record Term(String text, int group) {}
+
+    /** 본문에서 검색어가 발견될 때마다 호출 (같은 그룹이 여러 번 나오면 여러 번 호출) */
+    interface MatchHandler {
+        void onMatch(int group, int position);
+    }
+
+    // 첫 글자(char 값) -> 검색어 목록. char 범위 전체 배열이라 조회 시 박싱/해싱 없음
+    private final Term[][] buckets = new Term[Character.MAX_VALUE + 1][];
+    private final int termCount;
+
+    TermScanner(Collection<Term> terms) {
+        Map<Character, List<Term>> byFirst = new HashMap<>();
+        int count = 0;
+        for (Term t : terms) {
+            if (t.text() == null || t.text().isEmpty()) continue;
+            byFirst.computeIfAbsent(t.text().charAt(0), k -> new ArrayList<>()).add(t);
+            count++;
+        }
+        // 같은 그룹 검색어가 붙어 있도록 정렬 (scan 에서 위치당 그룹 중복 알림 방지)
+        byFirst.forEach((c, list) -> {
+            list.sort(Comparator.comparingInt(Term::group));
+            buckets[c] = list.toArray(new Term[0]);
+        });
+        this.termCount = count;
+    }
+
+    boolean isEmpty() {
+        return termCount == 0;
+    }
+
+    /**
+     * text 를 한 번 스캔하며 매칭된 그룹과 위치를 알려줌
+     * - 같은 위치에서 같은 그룹의 검색어가 여러 개 맞으면 한 번만 알림
+     */
+    void scan(String text, MatchHandler handler) {
+        if (text == null) return;
+        for (int i = 0; i < text.length(); i++) {
+            Term[] bucket = buckets[text.charAt(i)];
+            if (bucket == null) continue;
+            int lastGroup = -1;
+            for (Term t : bucket) {
+                if (t.group() == lastGroup) continue;
+                if (text.startsWith(t.text(), i)) {
+                    lastGroup = t.group();
+                    handler.onMatch(t.group(), i);
+                }
+            }
+        }
+    }
+}
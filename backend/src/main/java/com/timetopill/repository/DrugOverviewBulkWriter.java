@@ -0,0 +1,74 @@
+package com.timetopill.repository;
+
+import com.timetopill.config.TableNames;
+import com.timetopill.entity.DrugOverview;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * drug_overview 대량 저장 (식약처 API 적재 전용)
+ * - JPA saveAll 은 itemSeq 를 직접 넣는 엔티티라 행마다 merge(SELECT) 후 INSERT → 왕복이 두 배
+ * - 여기서는 batchSize 행씩 다중 VALUES INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 저장
+ * - 호출한 쪽 트랜잭션(TransactionTemplate)에 같이 참여함
+ * - H2 에서 쓸 때는 MODE=MySQL 이어야 ON DUPLICATE KEY UPDATE 가 동작
+ */
+@Repository
+@RequiredArgsConstructor
+public class DrugOverviewBulkWriter {
+
+    private static final String[] COLUMNS = {
+            "item_seq", "item_name", "entp_name", "efficacy_text", "use_method_text", "warning_text_1", "content_hash"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 문장에 넣는 행 수 (7컬럼 × 500행 = 바인드 변수 3500개)
+    @Value("${drug.fetch.write-batch-size:500}")
+    private int batchSize;
+
+    /** 없는 약은 추가, 있는 약(itemSeq 중복)은 내용 컬럼 갱신. 반환: 저장한 약 수 */
+    public int upsert(List<DrugOverview> drugs) {
+        int written = 0;
+        for (int from = 0; from < drugs.size(); from += batchSize) {
+            List<DrugOverview> chunk = drugs.subList(from, Math.min(from + batchSize, drugs.size()));
+
+            Object[] args = new Object[chunk.size() * COLUMNS.length];
+            int i = 0;
+            for (DrugOverview drug : chunk) {
+                args[i++] = drug.getItemSeq();
+                args[i++] = drug.getItemName();
+                args[i++] = drug.getEntpName();
+                args[i++] = drug.getEfficacyText();
+                args[i++] = drug.getUseMethodText();
+                args[i++] = drug.getWarningText1();
+                args[i++] = drug.getContentHash();
+            }
+            jdbcTemplate.update(upsertSql(chunk.size()), args);
+            written += chunk.size();
+        }
+        return written;
+    }
+
+    // INSERT INTO drug_overview (...) VALUES (?, ...), (?, ...) ON DUPLICATE KEY UPDATE item_name = VALUES(item_name), ...
+    private static String upsertSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(TableNames.DRUG_OVERVIEW)
+                .append(" (").append(String.join(", ", COLUMNS)).append(") VALUES ");
+
+        String placeholders = "(" + "?, ".repeat(COLUMNS.length - 1) + "?)";
+        for (int r = 0; r < rows; r++) {
+            if (r > 0) sql.append(", ");
+            sql.append(placeholders);
+        }
+
+        sql.append(" ON DUPLICATE KEY UPDATE ");
+        for (int c = 1; c < COLUMNS.length; c++) {   // item_seq(키) 제외
+            if (c > 1) sql.append(", ");
+            sql.append(COLUMNS[c]).append(" = VALUES(").append(COLUMNS[c]).append(")");
+        }
+        return sql.toString();
+    }
+}
@@ -1,17 +1,48 @@
 package com.timetopill.repository;
 
+import com.timetopill.dto.DrugSummaryDto;
 import com.timetopill.entity.DrugOverview;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface DrugOverviewRepository extends JpaRepository<DrugOverview, String> {
 
-    // 1. 이름 검색
-    List<DrugOverview> findByItemNameContaining(String keyword);
+    // LIKE 검색(1, 2)의 keyword 는 호출하는 쪽에서 \ % _ 를 이스케이프해서 넘김 (ESCAPE '\')
 
-    // 2. 증상 검색 (여기가 틀려서 500 에러가 났을 것입니다!)
-    // [중요] Entity 필드명(efficacyText)과 대소문자까지 정확히 일치해야 함
-    List<DrugOverview> findByEfficacyTextContaining(String keyword);
-}
\ No newline at end of file
+    // 1. 이름 검색 (메모리 카탈로그가 없을 때만 사용, 본문 컬럼 없이 itemSeq 만)
+    @Query("SELECT d.itemSeq FROM DrugOverview d WHERE d.itemName LIKE %:keyword% ESCAPE '\\' ORDER BY d.itemSeq")
+    List<String> findItemSeqsByItemNameContaining(@Param("keyword") String keyword);
+
+    // 2. 증상 검색 - efficacyText 에 키워드가 포함된 약의 itemSeq 목록
+    @Query("SELECT d.itemSeq FROM DrugOverview d WHERE d.efficacyText LIKE %:keyword% ESCAPE '\\' ORDER BY d.itemSeq")
+    List<String> findItemSeqsByEfficacyTextContaining(@Param("keyword") String keyword);
+
+    // 3. 메모리 카탈로그 빌드용 (itemSeq, itemName) - 긴 본문 컬럼은 읽지 않음
+    @Query("SELECT d.itemSeq, d.itemName FROM DrugOverview d ORDER BY d.itemSeq")
+    List<Object[]> findAllNameRows();
+
+    // 4. 검색 목록용 경량 조회 (이름/업체명 + DUR 건수)
+    @Query("SELECT new com.timetopill.dto.DrugSummaryDto(d.itemSeq, d.itemName, d.entpName, " +
+           "(SELECT COUNT(u) FROM DurInfo u WHERE u.itemCode = d.itemSeq)) " +
+           "FROM DrugOverview d WHERE d.itemSeq IN :itemSeqs")
+    List<DrugSummaryDto> findSummariesByItemSeqIn(@Param("itemSeqs") Collection<String> itemSeqs);
+
+    // 4-1. 검색 목록용 경량 조회 (DUR 건수 서브쿼리 없음 - 건수는 DUR 보유 약만 따로 집계)
+    @Query("SELECT new com.timetopill.dto.DrugSummaryDto(d.itemSeq, d.itemName, d.entpName) " +
+           "FROM DrugOverview d WHERE d.itemSeq IN :itemSeqs")
+    List<DrugSummaryDto> findSummariesWithoutDurCountByItemSeqIn(@Param("itemSeqs") Collection<String> itemSeqs);
+
+    // 5. 증상 색인 빌드용 (itemSeq, efficacyText) - itemSeq 키셋 페이징
+    @Query("SELECT d.itemSeq, d.efficacyText FROM DrugOverview d WHERE d.itemSeq > :after ORDER BY d.itemSeq")
+    List<Object[]> findEfficacyRowsAfter(@Param("after") String after, Pageable pageable);
+
+    // 6. 적재 시 이미 있는 약 + 저장된 내용 해시 (itemSeq, contentHash) - 페이지 단위로 한 번에
+    @Query("SELECT d.itemSeq, d.contentHash FROM DrugOverview d WHERE d.itemSeq IN :itemSeqs")
+    List<Object[]> findContentHashes(@Param("itemSeqs") Collection<String> itemSeqs);
+}
@@ -1,9 +1,13 @@
 package com.timetopill.repository;
 
 import com.timetopill.entity.DurCombinationInfo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +16,18 @@ public interface DurCombinationInfoRepository extends JpaRepository<DurCombinati
     // "이 약(itemCode)이 포함된 모든 병용금기 데이터를 찾아줘"
     // (A컬럼에 있거나 OR B컬럼에 있거나)
     List<DurCombinationInfo> findAllByItemCodeAOrItemCodeB(String codeA, String codeB);
-}
\ No newline at end of file
+
+    // 주어진 약 목록 안에서의 병용금기 쌍 (양방향 모두: A, B 둘 다 목록에 있는 행)
+    List<DurCombinationInfo> findByItemCodeAInAndItemCodeBIn(Collection<String> codesA, Collection<String> codesB);
+
+    // 병용금기 데이터에 등장하는 약 코드 (DUR 보유 필터 빌드용)
+    @Query("SELECT DISTINCT c.itemCodeA FROM DurCombinationInfo c")
+    List<String> findDistinctItemCodesA();
+
+    @Query("SELECT DISTINCT c.itemCodeB FROM DurCombinationInfo c")
+    List<String> findDistinctItemCodesB();
+
+    // 병용금기 그래프 빌드용 (id, itemCodeA, itemCodeB) - id 키셋 페이징
+    @Query("SELECT c.id, c.itemCodeA, c.itemCodeB FROM DurCombinationInfo c WHERE c.id > :after ORDER BY c.id")
+    List<Object[]> findPairRowsAfter(@Param("after") Long after, Pageable pageable);
+}
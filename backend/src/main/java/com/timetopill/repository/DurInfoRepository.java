@@ -2,11 +2,25 @@ package com.timetopill.repository;
 
 import com.timetopill.entity.DurInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface DurInfoRepository extends JpaRepository<DurInfo, Long> {
     // 특정 약(itemSeq)의 금기사항을 모두 가져오는 기능
     List<DurInfo> findByItemCode(String itemCode);
-}
\ No newline at end of file
+
+    // 여러 약의 금기사항을 한 번에 가져오는 기능 (검색 결과 N+1 방지)
+    List<DurInfo> findByItemCodeIn(Collection<String> itemCodes);
+
+    // 여러 약의 금기사항 건수 (itemCode, count)
+    @Query("SELECT u.itemCode, COUNT(u) FROM DurInfo u WHERE u.itemCode IN :itemCodes GROUP BY u.itemCode")
+    List<Object[]> countByItemCodeIn(@Param("itemCodes") Collection<String> itemCodes);
+
+    // 약 코드별 금기 유형 (itemCode, typeName) - DUR 보유/유형별 필터 빌드용
+    @Query("SELECT DISTINCT u.itemCode, u.typeName FROM DurInfo u")
+    List<Object[]> findDistinctItemCodeAndTypeNames();
+}
@@ -0,0 +1,23 @@
+package com.timetopill.repository;
+
+import com.timetopill.entity.PillPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PillPopularityRepository extends JpaRepository<PillPopularity, String> {
+
+    // 등록 수 +1 (행이 없으면 1로 생성)
+    @Modifying
+    @Query(value = "INSERT INTO pill_popularity (item_seq, add_count) VALUES (:itemSeq, 1) " +
+                   "ON DUPLICATE KEY UPDATE add_count = add_count + 1", nativeQuery = true)
+    void increment(@Param("itemSeq") String itemSeq);
+
+    // 등록 수 -1 (0 아래로는 내려가지 않음)
+    @Modifying
+    @Query("UPDATE PillPopularity p SET p.addCount = p.addCount - 1 WHERE p.itemSeq = :itemSeq AND p.addCount > 0")
+    int decrement(@Param("itemSeq") String itemSeq);
+}
@@ -25,10 +25,14 @@ public interface UserPillRepository extends JpaRepository<UserPill, Long> {
     @Query("SELECT up FROM UserPill up JOIN FETCH up.drug WHERE up.user.id = :userId")
     List<UserPill> findByUserIdWithPill(@Param("userId") Long userId);
 
+    // 내 약통 약 목록 (itemSeq, itemName) - 엔티티 로딩 없이 병용금기 확인용
+    @Query("SELECT up.drug.itemSeq, up.drug.itemName FROM UserPill up WHERE up.user.id = :userId")
+    List<Object[]> findItemSeqAndNamesByUserId(@Param("userId") Long userId);
+
     // [기존] 중복 검사
     Optional<UserPill> findByUserIdAndDrug_ItemSeq(Long userId, String itemSeq);
 
     boolean existsByUserIdAndDrug_ItemSeq(Long userId, String itemSeq);
 
-    void deleteByUserIdAndDrug_ItemSeq(Long userId, String itemSeq);
+    long deleteByUserIdAndDrug_ItemSeq(Long userId, String itemSeq);
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.timetopill.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 속도(초당 요청 수) AIMD 제한기 - 식약처 API 서비스키가 차단되지 않는 선에서 최대 속도 유지
+ * - 성공할 때마다 속도를 조금씩 올림 (additive increase: 초당 요청 수 r 에서 +increaseStep/r → 약 1초에 +increaseStep)
+ * - 429/5xx/타임아웃이면 절반으로 낮춤 (multiplicative decrease), Retry-After 가 있으면 그 시간 동안 새 요청을 보내지 않음
+ * - 동시에 들어온 실패 응답 여러 개로 연달아 깎이지 않도록 감소는 DECREASE_COOLDOWN 에 한 번만
+ * 요청 시작 시각을 1/r 간격의 슬롯으로 나눠 주는 방식 (여러 가상 스레드에서 동시에 호출)
+ */
+final class AimdRateLimiter {
+
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+
+    private double rate;
+    private long nextSlotNanos;
+    private long lastDecreaseNanos;
+
+    AimdRateLimiter(double initialRate, double minRate, double maxRate, double increaseStep) {
+        if (minRate <= 0 || minRate > maxRate) {
+            throw new IllegalArgumentException("요청 속도 범위가 올바르지 않습니다: " + minRate + " ~ " + maxRate);
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.nextSlotNanos = System.nanoTime();
+        this.lastDecreaseNanos = nextSlotNanos - DECREASE_COOLDOWN_NANOS;
+    }
+
+    /** 다음 요청 슬롯까지 대기 */
+    void acquire() throws InterruptedException {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlotNanos);
+            nextSlotNanos = slot + (long) (1e9 / rate);
+            wait = slot - now;
+        }
+        if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+    }
+
+    synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + increaseStep / rate);
+    }
+
+    /** @param retryAfterMillis 서버가 알려준 대기 시간 (없으면 0) */
+    synchronized void onThrottled(long retryAfterMillis) {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos >= DECREASE_COOLDOWN_NANOS) {
+            rate = Math.max(minRate, rate * DECREASE_FACTOR);
+            lastDecreaseNanos = now;
+        }
+        if (retryAfterMillis > 0) {
+            nextSlotNanos = Math.max(nextSlotNanos, now + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+        }
+    }
+
+    synchronized double rate() {
+        return rate;
+    }
+}
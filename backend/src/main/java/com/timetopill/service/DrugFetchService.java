@@ -1,127 +1,416 @@
 package com.timetopill.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.timetopill.config.TableNames;
 import com.timetopill.entity.DrugOverview;
+import com.timetopill.entity.IngestionCheckpoint;
+import com.timetopill.event.DrugDataImportedEvent;
+import com.timetopill.repository.DrugOverviewBulkWriter;
 import com.timetopill.repository.DrugOverviewRepository;
+import com.timetopill.repository.IngestionCheckpointRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 식약처 의약품 허가정보 API → drug_overview 적재 (페이지 요청/파싱은 DrugPageSource)
+ * - 첫 페이지로 전체 건수를 확인한 뒤 나머지 페이지를 가상 스레드로 동시에 요청 (동시 요청 수는 fetch-concurrency 로 제한)
+ * - 요청/JSON 스트리밍 파싱(가상 스레드, DrugPageParser) → 제한 크기 큐 → DB 저장(호출 스레드) 순서로 나눠 네트워크/파싱/저장이 겹쳐서 진행
+ * - 큐가 가득 차면 요청 스레드가 대기 → 저장이 느려도 메모리에 쌓이는 페이지 수는 제한됨
+ * - 페이지마다 별도 트랜잭션으로 커밋 + ingestion_checkpoint 갱신 (전체를 한 트랜잭션으로 묶지 않음)
+ * - 실패한 페이지 요청은 지수 백오프로 재시도 (적재 1회 전체 재시도 예산 안에서), 그래도 실패하면 중단하고 resume 으로 체크포인트 다음 페이지부터 재개
+ * - delta 모드: 이미 있는 약도 내용 해시(content_hash)를 비교해서 바뀐 약만 다시 씀 → 식약처 문구 변경 반영
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DrugFetchService {
 
+    private static final String CHECKPOINT_SOURCE = TableNames.DRUG_OVERVIEW;
+
     private final DrugOverviewRepository drugRepository;
+    private final DrugOverviewBulkWriter bulkWriter;
+    private final IngestionCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DrugPageSource pageSource;
 
-    @org.springframework.beans.factory.annotation.Value("${api.service-key:}")
-    private String SERVICE_KEY;
+    // 동시에 보내는 API 요청 수
+    @org.springframework.beans.factory.annotation.Value("${drug.fetch.concurrency:8}")
+    private int fetchConcurrency;
 
-    private static final String API_URL = "https://apis.data.go.kr/1471000/DrugPrdtPrmsnInfoService07/getDrugPrdtPrmsnDtlInq06";
+    // 파싱이 끝나고 저장을 기다리는 페이지 수 상한
+    @org.springframework.beans.factory.annotation.Value("${drug.fetch.queue-capacity:16}")
+    private int queueCapacity;
 
-    @Transactional
-    public String fetchAllData() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.getMessageConverters()
-                .add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+    // 페이지 요청 최대 시도 횟수 / 첫 재시도 대기 시간 (이후 2배씩)
+    @org.springframework.beans.factory.annotation.Value("${drug.fetch.max-attempts:3}")
+    private int maxAttempts;
 
-        ObjectMapper mapper = new ObjectMapper();
+    @org.springframework.beans.factory.annotation.Value("${drug.fetch.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
 
-        int pageNo = 1;
-        int numOfRows = 100;
-        int totalSaved = 0;
+    // 적재 1회 전체 재시도 예산: 최소 retry-budget-min 회 + 요청 페이지 수 × retry-budget-ratio
+    @org.springframework.beans.factory.annotation.Value("${drug.fetch.retry-budget-ratio:0.2}")
+    private double retryBudgetRatio;
 
-        while (true) {
-            try {
-                URI uri = UriComponentsBuilder.fromHttpUrl(API_URL)
-                        .queryParam("serviceKey", SERVICE_KEY)
-                        .queryParam("pageNo", pageNo)
-                        .queryParam("numOfRows", numOfRows)
-                        .queryParam("type", "json")
-                        .build(true)
-                        .toUri();
-
-                log.info("API 호출 중... 페이지: {}", pageNo);
-                String response = restTemplate.getForObject(uri, String.class);
-
-                JsonNode root = mapper.readTree(response);
-                JsonNode body = root.path("body");
-                JsonNode itemsNode = body.path("items");
-
-                if (itemsNode.isMissingNode() || itemsNode.isEmpty()) {
-                    break;
-                }
+    @org.springframework.beans.factory.annotation.Value("${drug.fetch.retry-budget-min:10}")
+    private int retryBudgetMin;
 
-                List<DrugOverview> drugList = new ArrayList<>();
+    // 페이지당 요청 건수 (numOfRows) - 스트리밍 파싱이라 키워도 응답 전체를 메모리에 두 번 올리지 않음
+    @org.springframework.beans.factory.annotation.Value("${drug.fetch.page-size:100}")
+    private int pageSize;
 
-                for (JsonNode item : itemsNode) {
-                    String itemSeq = getText(item, "ITEM_SEQ");
+    // true: JDBC 다중 행 upsert (DrugOverviewBulkWriter) / false: JPA saveAll (비교 측정용)
+    @org.springframework.beans.factory.annotation.Value("${drug.fetch.jdbc-write:true}")
+    private boolean jdbcWrite;
 
-                    if (drugRepository.existsById(itemSeq)) {
-                        continue;
-                    }
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * @param resume true 면 완료되지 않은 마지막 실행의 체크포인트 다음 페이지부터 이어서 적재
+     * @param delta  true 면 이미 있는 약도 내용 해시를 비교해서 바뀐 약만 다시 씀 (false 면 새 약만 추가)
+     */
+    public String fetchAllData(boolean resume, boolean delta) {
+        return fetch(resume, delta).message();
+    }
+
+    /** fetchAllData 와 같고 이번 호출의 처리 건수를 함께 돌려줌 (적재 벤치마크 등) */
+    public FetchResult fetch(boolean resume, boolean delta) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("의약품 데이터 적재가 이미 진행 중입니다.");
+        }
+        try {
+            return runFetch(resume, delta);
+        } finally {
+            running.set(false);
+        }
+    }
 
-                    DrugOverview drug = new DrugOverview();
-                    drug.setItemSeq(itemSeq);
+    private FetchResult runFetch(boolean resume, boolean delta) {
+        Progress progress = startRun(resume, delta);
+        int startPage = progress.lastPage + 1;
+        int savedBefore = progress.savedCount;
+        RetryBudget retryBudget = new RetryBudget(retryBudgetRatio, retryBudgetMin);
+        String error = null;
 
-                    // [중요] DB 컬럼 길이에 맞춰서 안전하게 자르기 (Truncate)
-                    // 약 이름: 1000자 제한
-                    drug.setItemName(truncate(getText(item, "ITEM_NAME"), 1000));
+        try {
+            // 1) 첫 페이지: 전체 건수 확인 + 저장
+            FetchedPage first = fetchWithRetry(startPage, retryBudget);
+            progress.totalPages = (int) Math.ceil(first.totalCount() / (double) pageSize);
+            log.info("전체 {}건, {}페이지 / {}페이지부터 {} 적재 (실행 {}, 동시 요청 {}개)",
+                    first.totalCount(), progress.totalPages, startPage, delta ? "delta" : "신규",
+                    progress.runId, fetchConcurrency);
 
-                    // 업체명: 255자 (기본)
-                    drug.setEntpName(truncate(getText(item, "ENTP_NAME"), 255));
+            if (startPage <= progress.totalPages) commitPage(progress, first);
 
-                    // 상세 내용: 4000자 제한 (HTML 태그 제거 후)
-                    drug.setEfficacyText(truncate(cleanHtml(getText(item, "EE_DOC_DATA")), 4000));
-                    drug.setUseMethodText(truncate(cleanHtml(getText(item, "UD_DOC_DATA")), 4000));
-                    drug.setWarningText1(truncate(cleanHtml(getText(item, "NB_DOC_DATA")), 4000));
+            // 2) 나머지 페이지: 동시 요청 → 큐 → 이 스레드에서 페이지별 트랜잭션으로 저장
+            BlockingQueue<FetchedPage> queue = new ArrayBlockingQueue<>(queueCapacity);
+            Semaphore permits = new Semaphore(fetchConcurrency);
+            AtomicBoolean aborted = new AtomicBoolean(false);
 
-                    // 주성분 (필요 시 주석 해제 및 길이 체크)
-                    // drug.setMainIngr(truncate(getText(item, "MAIN_ITEM_INGR"), 2000));
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int pageNo = startPage + 1; pageNo <= progress.totalPages; pageNo++) {
+                    int page = pageNo;
+                    executor.submit(() -> fetchInto(queue, permits, aborted, retryBudget, page));
+                }
 
-                    drugList.add(drug);
+                try {
+                    // 페이지마다 결과(성공/실패/건너뜀)가 정확히 하나씩 들어옴
+                    for (int received = startPage; received < progress.totalPages; received++) {
+                        FetchedPage page = queue.take();
+                        if (page.drugs() == null) {
+                            if (page.error() != null && error == null) {
+                                // 첫 오류에서 아직 시작하지 않은 요청 중단 (이미 받은 페이지는 계속 저장)
+                                error = "페이지 " + page.pageNo() + " - " + page.error().getMessage();
+                                aborted.set(true);
+                                log.error("에러 발생: {}", error);
+                            }
+                            continue;
+                        }
+                        try {
+                            commitPage(progress, page);
+                        } catch (RuntimeException e) {
+                            if (error == null) error = "페이지 " + page.pageNo() + " 저장 실패 - " + e.getMessage();
+                            aborted.set(true);
+                            log.error("에러 발생: {}", error);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    // 더 꺼내 갈 스레드가 없으므로 요청 스레드(요청 중 / queue.put 대기)를 깨우고 큐를 비움
+                    // → 그냥 두면 executor.close() 가 put 에서 막힌 요청 스레드를 끝없이 기다림
+                    aborted.set(true);
+                    executor.shutdownNow();
+                    queue.clear();
+                    throw e;
                 }
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            error = e.getMessage();
+            log.error("에러 발생: {}", error);
+        }
+
+        // 3) 체크포인트 마무리 + 새로 들어오거나 바뀐 약 목록 발행 → 메모리 카탈로그/검색 색인 재빌드
+        int saved = progress.savedCount - savedBefore;
+        progress.status = error == null ? IngestionCheckpoint.Status.COMPLETED : IngestionCheckpoint.Status.FAILED;
+        saveCheckpoint(progress);
+        eventPublisher.publishEvent(new DrugDataImportedEvent(Set.copyOf(progress.changed)));
+
+        String summary = "신규 " + progress.inserted + "건, 변경 " + progress.updated + "건";
+        String message = error == null
+                ? "적재 완료! 총 " + saved + "건 (" + summary + ")"
+                : "에러 발생: " + error + " (저장 " + saved + "건 - " + summary + ", " + progress.lastPage + "/"
+                  + progress.totalPages + "페이지까지 완료 - resume=true 로 이어서 적재)";
+        return new FetchResult(message, error == null, progress.pages, progress.inserted, progress.updated,
+                progress.skipped);
+    }
+
+    // resume 이고 끝나지 않은 실행이 있으면 이어가기, 아니면 새 실행 (1페이지부터)
+    private Progress startRun(boolean resume, boolean delta) {
+        IngestionCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_SOURCE).orElse(null);
+        Progress progress;
+        if (resume && checkpoint != null && checkpoint.getStatus() != IngestionCheckpoint.Status.COMPLETED) {
+            int lastPage = resumePage(checkpoint);
+            progress = new Progress(checkpoint.getRunId(), delta, lastPage, checkpoint.getSavedCount());
+            progress.totalPages = checkpoint.getPageSize() == pageSize ? checkpoint.getTotalPages() : 0;
+            log.info("체크포인트에서 재개: 실행 {}, {}페이지까지 완료", progress.runId, progress.lastPage);
+        } else {
+            if (resume) log.info("이어갈 체크포인트가 없어 1페이지부터 적재합니다.");
+            progress = new Progress(UUID.randomUUID().toString(), delta, 0, 0);
+        }
+        progress.status = IngestionCheckpoint.Status.RUNNING;
+        saveCheckpoint(progress);
+        return progress;
+    }
+
+    // 체크포인트의 lastPage 를 현재 page-size 기준으로 환산
+    // page-size 가 바뀌었으면 끝난 약 수(lastPage × 이전 크기)를 넘지 않는 페이지까지만 완료로 봄
+    // → 경계 페이지의 약 일부는 다시 받지만 이미 있는 약은 건너뛰므로(delta 면 해시 비교) 빠지는 약은 없음
+    private int resumePage(IngestionCheckpoint checkpoint) {
+        int checkpointPageSize = checkpoint.getPageSize();
+        if (checkpointPageSize == pageSize) return checkpoint.getLastPage();
+        if (checkpointPageSize <= 0) {
+            throw new IllegalStateException("체크포인트에 페이지 크기가 없어 이어서 적재할 수 없습니다. resume=false 로 처음부터 적재하세요.");
+        }
+        long doneItems = (long) checkpoint.getLastPage() * checkpointPageSize;
+        int lastPage = (int) (doneItems / pageSize);
+        log.warn("페이지 크기 변경 ({} → {}): 완료 {}페이지를 약 {}건 위치로 환산 → {}페이지부터 재개",
+                checkpointPageSize, pageSize, checkpoint.getLastPage(), doneItems, lastPage + 1);
+        return lastPage;
+    }
+
+    // 페이지 저장 + 체크포인트 갱신을 한 트랜잭션으로 (롤백되면 진행 상황도 그대로)
+    private void commitPage(Progress progress, FetchedPage page) {
+        BitSet committed = (BitSet) progress.committed.clone();
+        committed.set(page.pageNo());
+        int lastPage = progress.lastPage;
+        while (committed.get(lastPage + 1)) lastPage++;
 
-                drugRepository.saveAll(drugList);
-                totalSaved += drugList.size();
-                log.info("페이지 {} 저장 완료. 누적: {}", pageNo, totalSaved);
+        int nextLastPage = lastPage;
+        PageWrite written = transactionTemplate.execute(status -> {
+            PageWrite write = persist(page, progress.delta);
+            saveCheckpoint(progress.runId, nextLastPage, progress.totalPages,
+                    progress.savedCount + write.count(), IngestionCheckpoint.Status.RUNNING);
+            return write;
+        });
 
-                pageNo++;
+        progress.committed = committed;
+        progress.lastPage = nextLastPage;
+        progress.pages++;
+        progress.skipped += page.drugs().size() - written.count();
+        progress.savedCount += written.count();
+        progress.inserted += written.inserted().size();
+        progress.updated += written.updated().size();
+        progress.changed.addAll(written.inserted());
+        progress.changed.addAll(written.updated());
+    }
+
+    private void saveCheckpoint(Progress progress) {
+        saveCheckpoint(progress.runId, progress.lastPage, progress.totalPages, progress.savedCount, progress.status);
+    }
+
+    private void saveCheckpoint(String runId, int lastPage, int totalPages, int savedCount,
+                                IngestionCheckpoint.Status status) {
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint();
+        checkpoint.setSource(CHECKPOINT_SOURCE);
+        checkpoint.setRunId(runId);
+        checkpoint.setLastPage(lastPage);
+        checkpoint.setTotalPages(totalPages);
+        checkpoint.setPageSize(pageSize);
+        checkpoint.setSavedCount(savedCount);
+        checkpoint.setStatus(status);
+        checkpointRepository.save(checkpoint);
+    }
 
+    // 가상 스레드 작업: 허용 수만큼만 동시에 요청/파싱하고 결과를 큐에 넣음
+    private void fetchInto(BlockingQueue<FetchedPage> queue, Semaphore permits, AtomicBoolean aborted,
+                           RetryBudget retryBudget, int pageNo) {
+        FetchedPage result;
+        try {
+            permits.acquire();
+            try {
+                result = aborted.get()
+                        ? FetchedPage.skipped(pageNo)
+                        : fetchWithRetry(pageNo, retryBudget);
+            } finally {
+                permits.release();
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            result = FetchedPage.failed(pageNo, e);
+        }
+
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 일시적인 API 오류 대비: maxAttempts 번까지 재시도 (대기 시간 retryBackoffMs, 2배씩 증가)
+    // 재시도 예산을 다 쓰면 더 재시도하지 않고 실패 → 계속 실패하는 API 에 재시도가 몰리지 않음
+    // 응답 본문을 해석할 수 없는 경우(InvalidPageException)는 재시도하지 않음
+    private FetchedPage fetchWithRetry(int pageNo, RetryBudget retryBudget) throws Exception {
+        retryBudget.onRequest();
+        long backoff = retryBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                DrugPageSource.Page page = pageSource.fetch(pageNo, pageSize);
+                return new FetchedPage(pageNo, page.totalCount(), page.drugs(), null);
+            } catch (InterruptedException | DrugPageSource.InvalidPageException e) {
+                // 본문 형식 오류는 다시 요청해도 같음 → 재시도 예산을 쓰지 않고 바로 실패
+                throw e;
             } catch (Exception e) {
-                log.error("에러 발생: {}", e.getMessage());
-                return "에러 발생: " + e.getMessage();
+                if (attempt >= maxAttempts) throw e;
+                if (!retryBudget.tryRetry()) {
+                    log.warn("페이지 {} 요청 실패: 재시도 예산 소진 (재시도 {}회)", pageNo, retryBudget.retries());
+                    throw e;
+                }
+                log.warn("페이지 {} 요청 실패 ({}/{}회): {} → {}ms 후 재시도",
+                        pageNo, attempt, maxAttempts, e.getMessage(), backoff);
+                Thread.sleep(backoff);
+                backoff *= 2;
             }
         }
-        return "적재 완료! 총 " + totalSaved + "건";
     }
 
-    private String getText(JsonNode node, String fieldName) {
-        return node.has(fieldName) ? node.get(fieldName).asText() : "";
+    // 저장 단계 (호출 스레드에서 페이지 트랜잭션 안에서만 DB 접근)
+    // 이미 있는 약 + 저장된 내용 해시는 페이지당 IN 조회 한 번으로 확인 (약마다 existsById 왕복 X)
+    // - 없는 약: 추가 / 있는 약: delta 면 해시가 다를 때만 다시 씀 (해시가 없는 기존 행도 다시 씀)
+    private PageWrite persist(FetchedPage page, boolean delta) {
+        if (page.drugs().isEmpty()) return PageWrite.EMPTY;
+
+        Set<String> pageSeqs = new HashSet<>();
+        for (DrugOverview drug : page.drugs()) pageSeqs.add(drug.getItemSeq());
+        Map<String, String> storedHashes = new HashMap<>();
+        for (Object[] row : drugRepository.findContentHashes(pageSeqs)) {
+            storedHashes.put((String) row[0], (String) row[1]);
+        }
+
+        List<DrugOverview> drugList = new ArrayList<>(page.drugs().size());
+        List<String> inserted = new ArrayList<>();
+        List<String> updated = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (DrugOverview drug : page.drugs()) {
+            String itemSeq = drug.getItemSeq();
+            // 같은 페이지 안의 중복 itemSeq 는 한 번만
+            if (!seen.add(itemSeq)) continue;
+
+            if (!storedHashes.containsKey(itemSeq)) {
+                inserted.add(itemSeq);
+            } else if (delta && !drug.getContentHash().equals(storedHashes.get(itemSeq))) {
+                updated.add(itemSeq);
+            } else {
+                continue;
+            }
+            drugList.add(drug);
+        }
+
+        if (jdbcWrite) {
+            bulkWriter.upsert(drugList);
+        } else {
+            drugRepository.saveAll(drugList);
+        }
+        log.info("페이지 {} 저장 완료. 신규 {}건, 변경 {}건", page.pageNo(), inserted.size(), updated.size());
+        return new PageWrite(inserted, updated);
     }
 
-    private String cleanHtml(String input) {
-        if (input == null || input.isEmpty() || input.equals("null")) return "";
-        String text = input.replace("<![CDATA[", "").replace("]]>", "");
-        return text.replaceAll("<[^>]*>", " ").replaceAll("\\s+", " ").trim();
+    // 이번 실행의 진행 상황 (호출 스레드에서만 변경, 커밋이 끝난 뒤에 반영)
+    private static final class Progress {
+        final String runId;
+        final boolean delta;
+        int lastPage;
+        int totalPages;
+        int savedCount;
+        IngestionCheckpoint.Status status;
+        BitSet committed = new BitSet();   // lastPage 이후에 먼저 커밋된 페이지 (순서 없이 도착)
+
+        // 이번 호출에서 커밋한 페이지 수 / 새로 넣거나 다시 쓴 약 / 받았지만 쓰지 않은 약 (재개 이전 실행분은 포함하지 않음)
+        int pages;
+        int inserted;
+        int updated;
+        int skipped;
+        final Set<String> changed = new HashSet<>();
+
+        Progress(String runId, boolean delta, int lastPage, int savedCount) {
+            this.runId = runId;
+            this.delta = delta;
+            this.lastPage = lastPage;
+            this.savedCount = savedCount;
+        }
+    }
+
+    /**
+     * 적재 1회 결과 (이번 호출분만)
+     * @param pages    커밋한 페이지 수
+     * @param inserted 새로 넣은 약 수
+     * @param updated  내용이 바뀌어 다시 쓴 약 수 (delta)
+     * @param skipped  받았지만 쓰지 않은 약 수 (이미 있고 바뀌지 않음 / 같은 페이지 중복)
+     */
+    public record FetchResult(String message, boolean completed, int pages, int inserted, int updated, int skipped) {
+
+        public int saved() {
+            return inserted + updated;
+        }
+
+        /** API 에서 받은 약 수 (저장 + 건너뜀) */
+        public int received() {
+            return saved() + skipped;
+        }
     }
 
-    // [추가] 문자열 길이 제한 헬퍼 메서드
-    private String truncate(String value, int maxLength) {
-        if (value == null) return null;
-        if (value.length() > maxLength) {
-            return value.substring(0, maxLength);
+    // 한 페이지 저장 결과 (새로 넣은 약 / 내용이 바뀌어 다시 쓴 약)
+    private record PageWrite(List<String> inserted, List<String> updated) {
+
+        static final PageWrite EMPTY = new PageWrite(List.of(), List.of());
+
+        int count() {
+            return inserted.size() + updated.size();
+        }
+    }
+
+    // 한 페이지 처리 결과 (drugs == null 이면 건너뜀, error != null 이면 실패)
+    private record FetchedPage(int pageNo, int totalCount, List<DrugOverview> drugs, Exception error) {
+
+        static FetchedPage skipped(int pageNo) {
+            return new FetchedPage(pageNo, 0, null, null);
+        }
+
+        static FetchedPage failed(int pageNo, Exception error) {
+            return new FetchedPage(pageNo, 0, null, error);
         }
-        return value;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,143 @@
+package com.timetopill.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.timetopill.entity.DrugOverview;
+import com.timetopill.text.TextSanitizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 식약처 의약품 허가정보 API 응답(JSON) 스트리밍 파서
+ * - 응답 스트림을 토큰 단위로 읽으며 items 배열의 약을 하나씩 DrugOverview 로 변환
+ * - String 응답 + JsonNode 트리를 통째로 만들지 않음 → 페이지당 메모리는 변환된 약 목록 정도
+ * - 필요한 필드(body.totalCount, body.items[*]) 외의 값은 skipChildren 으로 건너뜀
+ */
+public final class DrugPageParser {
+
+    private final JsonFactory jsonFactory;
+
+    public DrugPageParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 스트림은 호출한 쪽에서 닫음
+     * 본문 형식 오류는 JsonProcessingException, 스트림 읽기 실패(네트워크)는 그 밖의 IOException
+     */
+    public DrugPageSource.Page parse(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "API 응답이 JSON 객체가 아닙니다.");
+            }
+
+            int totalCount = 0;
+            List<DrugOverview> drugs = new ArrayList<>();
+
+            // { "header": {...}, "body": { "totalCount": N, "items": [ {...}, ... ] } }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (!"body".equals(field) || token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String bodyField = parser.currentName();
+                    JsonToken bodyToken = parser.nextToken();
+                    if ("totalCount".equals(bodyField)) {
+                        totalCount = parser.getValueAsInt(0);
+                    } else if ("items".equals(bodyField) && bodyToken == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            drugs.add(readDrug(parser));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return new DrugPageSource.Page(totalCount, drugs);
+        }
+    }
+
+    // items 배열 원소 하나 (START_OBJECT 다음부터 END_OBJECT 까지)
+    private DrugOverview readDrug(JsonParser parser) throws IOException {
+        // 없는 필드는 빈 문자열 (기존 JsonNode 방식과 동일)
+        DrugOverview drug = new DrugOverview();
+        drug.setItemSeq("");
+        drug.setItemName("");
+        drug.setEntpName("");
+        drug.setEfficacyText("");
+        drug.setUseMethodText("");
+        drug.setWarningText1("");
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!token.isScalarValue()) {
+                parser.skipChildren();
+                continue;
+            }
+            String value = token == JsonToken.VALUE_NULL ? "" : parser.getText();
+
+            // [중요] DB 컬럼 길이에 맞춰서 안전하게 자르기 (Truncate)
+            switch (field) {
+                case "ITEM_SEQ" -> drug.setItemSeq(value);
+                // 약 이름: 1000자 제한
+                case "ITEM_NAME" -> drug.setItemName(truncate(value, 1000));
+                // 업체명: 255자 (기본)
+                case "ENTP_NAME" -> drug.setEntpName(truncate(value, 255));
+                // 상세 내용: 4000자 제한 (HTML 태그 제거 후)
+                case "EE_DOC_DATA" -> drug.setEfficacyText(cleanHtml(value, 4000));
+                case "UD_DOC_DATA" -> drug.setUseMethodText(cleanHtml(value, 4000));
+                case "NB_DOC_DATA" -> drug.setWarningText1(cleanHtml(value, 4000));
+                // 주성분 (필요 시 주석 해제 및 길이 체크)
+                // case "MAIN_ITEM_INGR" -> drug.setMainIngr(truncate(value, 2000));
+                default -> { }
+            }
+        }
+        drug.setContentHash(contentHash(drug));
+        return drug;
+    }
+
+    // 저장되는 내용 컬럼(정리/자르기 후 값) 기준 SHA-256 → delta 적재 때 저장된 해시와 비교
+    static String contentHash(DrugOverview drug) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String value : new String[]{drug.getItemName(), drug.getEntpName(), drug.getEfficacyText(),
+                drug.getUseMethodText(), drug.getWarningText1()}) {
+            digest.update((value == null ? "" : value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);   // 필드 경계 ("ab"+"c" 와 "a"+"bc" 구분)
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 태그/CDATA 제거 + 공백 정리 + 길이 제한을 한 번에 (TextSanitizer 한 번 훑기)
+    private String cleanHtml(String input, int maxLength) {
+        if ("null".equals(input)) return "";
+        return TextSanitizer.MARKUP.sanitize(input, maxLength);
+    }
+
+    // 문자열 길이 제한
+    private String truncate(String value, int maxLength) {
+        if (value == null) return null;
+        if (value.length() > maxLength) {
+            return value.substring(0, maxLength);
+        }
+        return value;
+    }
+}
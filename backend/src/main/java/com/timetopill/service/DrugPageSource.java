@@ -0,0 +1,30 @@
+package com.timetopill.service;
+
+import com.timetopill.entity.DrugOverview;
+
+import java.util.List;
+
+/**
+ * DrugFetchService 가 약 페이지를 받아오는 곳
+ * - 기본: 식약처 의약품 허가정보 API (HttpDrugPageSource)
+ * - bench 프로필: 합성/녹화된 JSON 페이지 (SyntheticDrugPageSource) → API 없이 적재 성능 측정
+ * 여러 가상 스레드에서 동시에 호출되므로 구현체는 스레드 안전해야 함
+ */
+public interface DrugPageSource {
+
+    /** pageNo(1부터) 페이지를 pageSize 건 단위로 읽어서 변환 */
+    Page fetch(int pageNo, int pageSize) throws Exception;
+
+    /** totalCount: 전체 약 수 (페이지 수 계산용) */
+    record Page(int totalCount, List<DrugOverview> drugs) {}
+
+    /**
+     * 응답은 받았지만 본문을 해석할 수 없음 (HTTP 200 + XML 오류 본문 등)
+     * 다시 요청해도 같은 결과라 DrugFetchService 는 재시도하지 않음
+     */
+    class InvalidPageException extends RuntimeException {
+        public InvalidPageException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
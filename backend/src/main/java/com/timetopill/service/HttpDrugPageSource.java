@@ -0,0 +1,131 @@
+package com.timetopill.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+
+/**
+ * 식약처 의약품 허가정보 API 페이지 요청
+ * 응답 본문을 String 으로 모으지 않고 스트림에서 바로 파싱 (DrugPageParser)
+ * - HTTP 클라이언트는 빈 하나에 하나 (JDK HttpClient 커넥션 풀 → keep-alive 로 연결 재사용), 연결/응답 타임아웃 적용
+ * - 요청 속도는 AimdRateLimiter 로 조절: 성공하면 조금씩 올리고 429/5xx/타임아웃/연결 실패면 절반으로
+ * - 실패한 요청의 재시도는 DrugFetchService 가 재시도 예산(RetryBudget) 안에서 처리
+ * - 본문을 해석할 수 없는 응답(data.go.kr 은 오류도 HTTP 200 + XML 로 줌)은 InvalidPageException → 재시도 안 함
+ */
+@Slf4j
+@Component
+@Profile("!bench")
+class HttpDrugPageSource implements DrugPageSource {
+
+    private static final String API_URL = "https://apis.data.go.kr/1471000/DrugPrdtPrmsnInfoService07/getDrugPrdtPrmsnDtlInq06";
+
+    private final String apiUrl;   // 기본 API_URL (테스트에서는 로컬 스텁 서버)
+    private final RestTemplate restTemplate;
+    private final AimdRateLimiter rateLimiter;
+    private final DrugPageParser parser = new DrugPageParser(new JsonFactory());
+
+    @Value("${api.service-key:}")
+    private String SERVICE_KEY;
+
+    HttpDrugPageSource(@Value("${drug.fetch.http.api-url:" + API_URL + "}") String apiUrl,
+                       @Value("${drug.fetch.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+                       @Value("${drug.fetch.http.read-timeout-ms:30000}") long readTimeoutMs,
+                       @Value("${drug.fetch.rate.initial:10}") double initialRate,
+                       @Value("${drug.fetch.rate.min:1}") double minRate,
+                       @Value("${drug.fetch.rate.max:50}") double maxRate) {
+        this.apiUrl = apiUrl;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.rateLimiter = new AimdRateLimiter(initialRate, minRate, maxRate, 1.0);
+    }
+
+    @Override
+    public Page fetch(int pageNo, int pageSize) throws InterruptedException {
+        URI uri = UriComponentsBuilder.fromHttpUrl(apiUrl)
+                .queryParam("serviceKey", SERVICE_KEY)
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", pageSize)
+                .queryParam("type", "json")
+                .build(true)
+                .toUri();
+
+        rateLimiter.acquire();
+        log.info("API 호출 중... 페이지: {}", pageNo);
+
+        Page page;
+        try {
+            page = restTemplate.execute(uri, HttpMethod.GET, null, response -> {
+                try {
+                    return parser.parse(response.getBody());
+                } catch (JsonProcessingException e) {
+                    // RestTemplate 이 IOException 을 ResourceAccessException 으로 감싸기 전에 구분
+                    throw new InvalidPageException("페이지 " + pageNo + " 응답을 해석할 수 없습니다 (JSON 아님): "
+                            + e.getOriginalMessage(), e);
+                }
+            });
+        } catch (HttpStatusCodeException e) {
+            // 429(요청 과다) / 5xx(서버 과부하) → 속도 낮춤, 그 외 4xx 는 속도와 무관 (서비스키 오류 등)
+            if (e.getStatusCode().value() == 429 || e.getStatusCode().is5xxServerError()) {
+                throttled(pageNo, e.getStatusCode().value(), retryAfterMillis(e.getResponseHeaders()));
+            }
+            throw e;
+        } catch (ResourceAccessException e) {
+            // 연결/응답 타임아웃, 연결 거부만 과부하 신호로 보고 속도 낮춤 (그 밖의 I/O 오류는 재시도만)
+            if (isOverloadSignal(e.getCause())) {
+                throttled(pageNo, 0, 0);
+            }
+            throw e;
+        }
+        if (page == null) {
+            throw new IllegalStateException("API 응답 본문이 비어 있습니다.");
+        }
+        rateLimiter.onSuccess();
+        return page;
+    }
+
+    private void throttled(int pageNo, int status, long retryAfterMillis) {
+        rateLimiter.onThrottled(retryAfterMillis);
+        log.warn("페이지 {} 요청 제한/실패 (HTTP {}) → 요청 속도 {}/s{}", pageNo, status == 0 ? "타임아웃" : status,
+                String.format("%.1f", rateLimiter.rate()),
+                retryAfterMillis > 0 ? ", " + retryAfterMillis + "ms 대기" : "");
+    }
+
+    private static boolean isOverloadSignal(Throwable cause) {
+        return cause instanceof HttpTimeoutException
+                || cause instanceof SocketTimeoutException
+                || cause instanceof ConnectException;
+    }
+
+    // Retry-After: 초 단위 숫자만 지원 (HTTP 날짜 형식이면 무시)
+    private long retryAfterMillis(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) return 0;
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
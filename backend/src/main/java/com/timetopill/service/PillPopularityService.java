@@ -0,0 +1,137 @@
+package com.timetopill.service;
+
+import com.timetopill.entity.PillPopularity;
+import com.timetopill.event.PillboxChangedEvent;
+import com.timetopill.repository.PillPopularityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 인기 약품 순위 (내 약통 등록 수 기준)
+ * - DB: pill_popularity 카운터를 약 추가/삭제 때마다 +1/-1
+ * - 메모리: 전체 카운트 + 상위 CAPACITY 개 정렬 목록 → 조회는 O(K)
+ * - 약통 트랜잭션이 커밋된 뒤(PillboxChangedEvent) 별도 트랜잭션으로 갱신
+ *   → 카운터 갱신이 실패해도 약 추가/삭제는 그대로 (경고 로그만, 다음 기동 때 DB 값으로 다시 로드)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PillPopularityService {
+
+    static final int CAPACITY = 100;
+
+    // 등록 수 내림차순, 같으면 itemSeq 오름차순
+    private static final Comparator<Entry> RANK_ORDER = Comparator
+            .comparingLong(Entry::count).reversed()
+            .thenComparing(Entry::itemSeq);
+
+    private final PillPopularityRepository popularityRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, Long> counts = new HashMap<>();
+    private volatile List<Entry> top = List.of();
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            synchronized (this) {
+                counts.clear();
+                for (PillPopularity p : popularityRepository.findAll()) {
+                    if (p.getAddCount() > 0) counts.put(p.getItemSeq(), p.getAddCount());
+                }
+                rebuildTop();
+                loaded = true;
+            }
+            log.info("인기 약품 카운터 로드 완료: {}개 약품", counts.size());
+        } catch (Exception e) {
+            log.warn("인기 약품 카운터 로드 실패 (pill_popularity 테이블 확인 필요): {}", e.getMessage());
+            log.warn("인기 약품 조회는 user_pills 집계 쿼리로 동작합니다.");
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 내 약통에 추가/삭제됨 (약통 트랜잭션 커밋 이후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPillboxChanged(PillboxChangedEvent event) {
+        String itemSeq = event.itemSeq();
+        try {
+            // 커밋이 끝난 트랜잭션에는 참여할 수 없으므로 새 트랜잭션
+            TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            Boolean changed = requiresNew.execute(status -> {
+                if (event.added()) {
+                    popularityRepository.increment(itemSeq);
+                    return true;
+                }
+                return popularityRepository.decrement(itemSeq) > 0;
+            });
+            if (Boolean.TRUE.equals(changed)) apply(itemSeq, event.added() ? 1 : -1);
+        } catch (RuntimeException e) {
+            log.warn("인기 약품 카운터 갱신 실패 ({} {}): {}", itemSeq, event.added() ? "+1" : "-1", e.getMessage());
+        }
+    }
+
+    // 상위 limit 개 itemSeq (최대 CAPACITY 개)
+    public List<String> topItemSeqs(int limit) {
+        List<Entry> snapshot = top;
+        int n = Math.min(limit, snapshot.size());
+        List<String> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) result.add(snapshot.get(i).itemSeq());
+        return result;
+    }
+
+    private synchronized void apply(String itemSeq, int delta) {
+        long count = Math.max(0, counts.getOrDefault(itemSeq, 0L) + delta);
+        if (count == 0) counts.remove(itemSeq);
+        else counts.put(itemSeq, count);
+
+        List<Entry> current = top;
+        boolean inTop = current.stream().anyMatch(e -> e.itemSeq().equals(itemSeq));
+
+        if (delta > 0) {
+            Entry updated = new Entry(itemSeq, count);
+            boolean qualifies = inTop || current.size() < CAPACITY
+                    || RANK_ORDER.compare(updated, current.get(current.size() - 1)) < 0;
+            if (!qualifies) return;
+
+            List<Entry> next = new ArrayList<>(current.size() + 1);
+            for (Entry e : current) {
+                if (!e.itemSeq().equals(itemSeq)) next.add(e);
+            }
+            next.add(updated);
+            next.sort(RANK_ORDER);
+            if (next.size() > CAPACITY) next = next.subList(0, CAPACITY);
+            top = List.copyOf(next);
+        } else if (inTop) {
+            // 상위권 약의 수가 줄면 밖에 있던 약이 올라올 수 있으므로 전체에서 다시 선별
+            rebuildTop();
+        }
+    }
+
+    // 전체 카운트에서 크기 CAPACITY 힙으로 상위 목록 선별 (O(n log K))
+    private void rebuildTop() {
+        PriorityQueue<Entry> heap = new PriorityQueue<>(CAPACITY + 1, RANK_ORDER.reversed());
+        for (Map.Entry<String, Long> e : counts.entrySet()) {
+            heap.offer(new Entry(e.getKey(), e.getValue()));
+            if (heap.size() > CAPACITY) heap.poll();
+        }
+        List<Entry> next = new ArrayList<>(heap);
+        next.sort(RANK_ORDER);
+        top = List.copyOf(next);
+    }
+
+    private record Entry(String itemSeq, long count) {}
+}
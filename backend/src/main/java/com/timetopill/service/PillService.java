@@ -1,21 +1,29 @@
 package com.timetopill.service;
 
 import com.timetopill.dto.DrugSearchDto;
+import com.timetopill.dto.DurInteractionDto;
+import com.timetopill.dto.PillAddResponse;
 import com.timetopill.dto.PillScheduleRequest;
 import com.timetopill.dto.UserPillResponse;
 import com.timetopill.entity.*;
+import com.timetopill.event.PillboxChangedEvent;
+import com.timetopill.index.DurInteractionIndex;
+import com.timetopill.index.DurPresenceFilter;
+import com.timetopill.index.ProfileDurType;
 import com.timetopill.repository.DrugOverviewRepository;
+import com.timetopill.repository.DurCombinationInfoRepository;
 import com.timetopill.repository.ScheduleRepository;
 import com.timetopill.repository.UserPillRepository;
 import com.timetopill.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,13 +36,27 @@ public class PillService {
     private final DrugOverviewRepository drugRepository;
     private final UserRepository userRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DurCombinationInfoRepository durCombinationRepository;
+    private final DurInteractionIndex durInteractionIndex;
+    private final DurPresenceFilter durPresenceFilter;
 
-    // 1. 내 약통 조회 (스케줄 정보 포함)
+    // 1. 내 약통 조회 (스케줄 정보 포함, 프로필 기준 DUR 유형 표시)
     @Transactional(readOnly = true)
     public List<UserPillResponse> getMyPillsWithSchedule(Long userId) {
         List<UserPill> userPills = userPillRepository.findByUserIdWithPill(userId);
+
+        DurPresenceFilter.Snapshot durFilter = durPresenceFilter.snapshot();
+        int profileMask = durFilter == null ? 0 : userRepository.findById(userId)
+                .map(user -> ProfileDurType.maskFor(user.getAge(), user.getGender()))
+                .orElse(0);
+
         return userPills.stream()
-                .map(UserPillResponse::from)
+                .map(userPill -> {
+                    int matched = profileMask == 0 ? 0
+                            : durFilter.matchingTypes(userPill.getDrug().getItemSeq(), profileMask);
+                    return UserPillResponse.from(userPill, ProfileDurType.labels(matched));
+                })
                 .collect(Collectors.toList());
     }
 
@@ -48,7 +70,7 @@ public class PillService {
     }
 
     // 2. 내 약통에 추가 (스케줄 설정 포함)
-    public void addPillWithSchedule(Long userId, PillScheduleRequest request) {
+    public PillAddResponse addPillWithSchedule(Long userId, PillScheduleRequest request) {
         log.info("약 추가 (스케줄 포함) - User: {}, ItemSeq: {}", userId, request.getItemSeq());
 
         if (userPillRepository.existsByUserIdAndDrug_ItemSeq(userId, request.getItemSeq())) {
@@ -60,6 +82,9 @@ public class PillService {
         DrugOverview drug = drugRepository.findById(request.getItemSeq())
                 .orElseThrow(() -> new RuntimeException("약 정보를 찾을 수 없습니다."));
 
+        // 기존 약들과의 병용금기 확인 (새 약의 이웃만 확인)
+        List<DurInteractionDto> conflicts = findConflictsWithMyPills(userId, drug);
+
         // UserPill 저장
         UserPill userPill = new UserPill();
         userPill.setUser(user);
@@ -72,15 +97,17 @@ public class PillService {
         userPill.setActive(true);
 
         userPillRepository.save(userPill);
+        eventPublisher.publishEvent(new PillboxChangedEvent(drug.getItemSeq(), true));
 
         // Schedule 엔트리 생성 (향후 30일)
         generateSchedules(userPill, user, drug);
 
         log.info("약 및 스케줄 저장 완료!");
+        return new PillAddResponse("약통에 추가되었습니다.", conflicts);
     }
 
     // 2-1. 간단 추가 (기존 호환용)
-    public void addPill(Long userId, String itemSeq) {
+    public PillAddResponse addPill(Long userId, String itemSeq) {
         log.info("약 추가 (간단) - User: {}, ItemSeq: {}", userId, itemSeq);
 
         if (userPillRepository.existsByUserIdAndDrug_ItemSeq(userId, itemSeq)) {
@@ -92,6 +119,8 @@ public class PillService {
         DrugOverview drug = drugRepository.findById(itemSeq)
                 .orElseThrow(() -> new RuntimeException("약 정보를 찾을 수 없습니다."));
 
+        List<DurInteractionDto> conflicts = findConflictsWithMyPills(userId, drug);
+
         UserPill userPill = new UserPill();
         userPill.setUser(user);
         userPill.setDrug(drug);
@@ -101,11 +130,13 @@ public class PillService {
         userPill.setActive(true);
 
         userPillRepository.save(userPill);
+        eventPublisher.publishEvent(new PillboxChangedEvent(drug.getItemSeq(), true));
 
         // 기본 스케줄 생성 (매일 아침)
         generateSchedules(userPill, user, drug);
 
         log.info("DB 저장 성공!");
+        return new PillAddResponse("약통에 추가되었습니다.", conflicts);
     }
 
     // 3. 내 약통에서 삭제
@@ -114,7 +145,9 @@ public class PillService {
         scheduleRepository.deleteAll(
             scheduleRepository.findByUserIdAndDrug_ItemSeq(userId, itemSeq)
         );
-        userPillRepository.deleteByUserIdAndDrug_ItemSeq(userId, itemSeq);
+        if (userPillRepository.deleteByUserIdAndDrug_ItemSeq(userId, itemSeq) > 0) {
+            eventPublisher.publishEvent(new PillboxChangedEvent(itemSeq, false));
+        }
     }
 
     // 4. 스케줄 수정
@@ -141,6 +174,90 @@ public class PillService {
         generateSchedules(userPill, userPill.getUser(), userPill.getDrug());
     }
 
+    // 5. 내 약통 병용금기 확인 (약통 안의 모든 금기 쌍)
+    @Transactional(readOnly = true)
+    public List<DurInteractionDto> getMyInteractions(Long userId) {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (UserPill userPill : userPillRepository.findByUserIdWithPill(userId)) {
+            names.put(userPill.getDrug().getItemSeq(), userPill.getDrug().getItemName());
+        }
+        if (names.size() < 2) return Collections.emptyList();
+
+        DurInteractionIndex.Snapshot index = durInteractionIndex.snapshot();
+        Set<String> involved;
+        if (index == null) {
+            // 그래프 미적재 시 약통 전체로 한 번에 조회
+            involved = names.keySet();
+        } else {
+            // 메모리 그래프로 금기 쌍을 먼저 찾고, 사유 본문은 해당 약들만 한 번에 조회
+            involved = new HashSet<>();
+            for (DurInteractionIndex.Pair pair : index.conflictsAmong(names.keySet())) {
+                involved.add(pair.codeA());
+                involved.add(pair.codeB());
+            }
+            if (involved.isEmpty()) return Collections.emptyList();
+        }
+        return toInteractionDtos(durCombinationRepository.findByItemCodeAInAndItemCodeBIn(involved, involved), names);
+    }
+
+    // 새로 추가할 약 vs 이미 내 약통에 있는 약 - 메모리 그래프에서 새 약의 이웃만 확인 (O(차수))
+    private List<DurInteractionDto> findConflictsWithMyPills(Long userId, DrugOverview drug) {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (Object[] row : userPillRepository.findItemSeqAndNamesByUserId(userId)) {
+            names.put((String) row[0], (String) row[1]);
+        }
+        if (names.isEmpty()) return Collections.emptyList();
+
+        String newSeq = drug.getItemSeq();
+        DurPresenceFilter.Snapshot durFilter = durPresenceFilter.snapshot();
+        if (durFilter != null && !durFilter.mayHaveCombination(newSeq)) return Collections.emptyList();
+
+        Set<String> others;
+        DurInteractionIndex.Snapshot index = durInteractionIndex.snapshot();
+        if (index == null) {
+            others = names.keySet();  // 그래프 미적재 시 DB 에서 확인
+        } else {
+            others = new HashSet<>(index.conflictsWith(newSeq, names.keySet()));
+            if (others.isEmpty()) return Collections.emptyList();
+        }
+
+        Set<String> codes = new HashSet<>(others);
+        codes.add(newSeq);
+        List<DurCombinationInfo> rows = durCombinationRepository.findByItemCodeAInAndItemCodeBIn(codes, codes).stream()
+                .filter(row -> newSeq.equals(row.getItemCodeA()) || newSeq.equals(row.getItemCodeB()))
+                .collect(Collectors.toList());
+        if (rows.isEmpty()) return Collections.emptyList();
+
+        names.put(newSeq, drug.getItemName());
+        List<DurInteractionDto> conflicts = toInteractionDtos(rows, names);
+        log.info("병용금기 {}건 발견 - ItemSeq: {}", conflicts.size(), newSeq);
+        return conflicts;
+    }
+
+    // 병용금기 행 -> 쌍 단위 DTO (A/B 순서 무관하게 같은 쌍은 하나로, 사유는 중복 제거 후 묶음)
+    private List<DurInteractionDto> toInteractionDtos(List<DurCombinationInfo> rows, Map<String, String> names) {
+        Map<String, String[]> pairs = new LinkedHashMap<>();
+        Map<String, Set<String>> reasons = new LinkedHashMap<>();
+        for (DurCombinationInfo row : rows) {
+            String a = row.getItemCodeA();
+            String b = row.getItemCodeB();
+            if (a == null || b == null || a.equals(b)) continue;
+            String first = a.compareTo(b) <= 0 ? a : b;
+            String second = first.equals(a) ? b : a;
+            String key = first + "|" + second;
+            pairs.putIfAbsent(key, new String[]{first, second});
+            Set<String> texts = reasons.computeIfAbsent(key, k -> new LinkedHashSet<>());
+            if (row.getProhibitedContent() != null && !row.getProhibitedContent().isBlank()) {
+                texts.add(row.getProhibitedContent().trim());
+            }
+        }
+
+        List<DurInteractionDto> result = new ArrayList<>(pairs.size());
+        pairs.forEach((key, pair) -> result.add(new DurInteractionDto(
+                pair[0], names.get(pair[0]), pair[1], names.get(pair[1]), List.copyOf(reasons.get(key)))));
+        return result;
+    }
+
     // 스케줄 생성 헬퍼 메서드 (향후 30일)
     private void generateSchedules(UserPill userPill, User user, DrugOverview drug) {
         LocalDate startDate = userPill.getStartDate() != null ? userPill.getStartDate() : LocalDate.now();
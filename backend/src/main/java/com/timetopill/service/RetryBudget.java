@@ -0,0 +1,39 @@
+package com.timetopill.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 적재 1회 동안의 재시도 예산
+ * - 재시도 횟수 ≤ minRetries + ratio × (요청한 페이지 수)
+ * - API 가 계속 실패할 때 페이지마다 재시도가 쌓여 부하를 키우지 않도록 전체 재시도량을 제한
+ */
+final class RetryBudget {
+
+    private final double ratio;
+    private final int minRetries;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger retries = new AtomicInteger();
+
+    RetryBudget(double ratio, int minRetries) {
+        this.ratio = ratio;
+        this.minRetries = minRetries;
+    }
+
+    /** 페이지 첫 요청마다 호출 (재시도는 세지 않음) */
+    void onRequest() {
+        requests.incrementAndGet();
+    }
+
+    /** 재시도해도 되면 예산을 하나 쓰고 true */
+    boolean tryRetry() {
+        while (true) {
+            int used = retries.get();
+            if (used >= minRetries + ratio * requests.get()) return false;
+            if (retries.compareAndSet(used, used + 1)) return true;
+        }
+    }
+
+    int retries() {
+        return retries.get();
+    }
+}
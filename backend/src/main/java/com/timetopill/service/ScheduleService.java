@@ -1,5 +1,6 @@
 package com.timetopill.service;
 
+import com.timetopill.cache.DurWarningCache;
 import com.timetopill.dto.ScheduleDto.*;
 import com.timetopill.entity.Schedule;
 import com.timetopill.repository.ScheduleRepository;
@@ -8,27 +9,35 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
 public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
+    private final DurWarningCache durWarningCache;
 
-    public ScheduleService(ScheduleRepository scheduleRepository) {
+    public ScheduleService(ScheduleRepository scheduleRepository, DurWarningCache durWarningCache) {
         this.scheduleRepository = scheduleRepository;
+        this.durWarningCache = durWarningCache;
     }
 
     public List<ScheduleResponse> getTodaySchedule(Long userId) {
         LocalDate today = LocalDate.now();
-        return scheduleRepository.findByUserIdAndDate(userId, today).stream()
-            .map(ScheduleResponse::from)
-            .toList();
+        return toResponses(scheduleRepository.findByUserIdAndDate(userId, today));
     }
 
     public List<ScheduleResponse> getScheduleByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-        return scheduleRepository.findByUserIdAndDateRange(userId, startDate, endDate).stream()
-            .map(ScheduleResponse::from)
+        return toResponses(scheduleRepository.findByUserIdAndDateRange(userId, startDate, endDate));
+    }
+
+    // 일정 행마다 DUR 조회하지 않고, 등장하는 약(itemSeq)들의 경고를 캐시에서 한 번에 가져옴
+    private List<ScheduleResponse> toResponses(List<Schedule> schedules) {
+        Map<String, List<WarningInfo>> warnings = durWarningCache.warningsFor(
+            schedules.stream().map(s -> s.getDrug().getItemSeq()).toList());
+        return schedules.stream()
+            .map(s -> ScheduleResponse.from(s, warnings.getOrDefault(s.getDrug().getItemSeq(), List.of())))
             .toList();
     }
 
@@ -1,43 +1,117 @@
 package com.timetopill.service;
 
+import com.timetopill.cache.LruCache;
+import com.timetopill.cache.SearchResultCache;
+import com.timetopill.cache.SingleFlight;
 import com.timetopill.dto.DrugSearchDto;
+import com.timetopill.dto.DrugSuggestionDto;
+import com.timetopill.dto.DrugSummaryDto;
+import com.timetopill.dto.PageResponse;
+import com.timetopill.dto.SymptomMatchOp;
 import com.timetopill.entity.DrugOverview;
 import com.timetopill.entity.DurInfo;
+import com.timetopill.index.DrugCatalog;
+import com.timetopill.index.DrugSuggestIndex;
+import com.timetopill.index.DurPresenceFilter;
+import com.timetopill.index.ProfileDurType;
+import com.timetopill.index.RelevanceRanking;
+import com.timetopill.index.SymptomDrugIndex;
 import com.timetopill.repository.DrugOverviewRepository;
 import com.timetopill.repository.DurInfoRepository;
 import com.timetopill.repository.UserPillRepository;
+import com.timetopill.repository.UserRepository;
 import com.timetopill.symptommapper.mapping.MatchResult;
 import com.timetopill.symptommapper.service.MappingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class SearchService {
 
     private final DrugOverviewRepository drugRepository;
     private final DurInfoRepository durInfoRepository;
     private final UserPillRepository userPillRepository;
+    private final UserRepository userRepository;
     private final MappingService mappingService;
+    private final DrugCatalog drugCatalog;
+    private final SymptomDrugIndex symptomDrugIndex;
+    private final DrugSuggestIndex drugSuggestIndex;
+    private final PillPopularityService pillPopularityService;
+    private final SearchResultCache searchResultCache;
+    private final DurPresenceFilter durPresenceFilter;
 
-    // 1. 이름 검색
-    public List<DrugSearchDto> searchByName(String keyword) {
+    // findByItemCodeIn 한 번에 넘길 IN 절 최대 크기
+    private static final int ID_BATCH_SIZE = 1000;
+
+    // 동일한 검색 요청이 동시에 몰리면 한 번만 계산하고 결과 공유
+    // (클래스 단위 트랜잭션을 두지 않음 → 기다리는 요청이 DB 커넥션을 잡고 있지 않음)
+    private final SingleFlight<String, PageResponse<DrugSummaryDto>> inFlightSearches = new SingleFlight<>();
+
+    // 0. 로그인 사용자의 프로필 DUR 유형 마스크 (비로그인/프로필 없음이면 0)
+    public int profileMaskOf(Long userId) {
+        if (userId == null) return 0;
+        return userRepository.findById(userId)
+                .map(user -> ProfileDurType.maskFor(user.getAge(), user.getGender()))
+                .orElse(0);
+    }
+
+    // 1. 이름 검색 (페이지 단위, 목록용 경량 DTO)
+    // profileMask: 사용자에게 해당하는 DUR 유형, exclude=true 면 해당 약을 결과에서 빼고 아니면 표시만
+    public PageResponse<DrugSummaryDto> searchByName(String keyword, int page, int size, int profileMask, boolean exclude) {
+        int excludeMask = exclude ? ProfileDurType.excludableMask(profileMask) : 0;
+        PageResponse<DrugSummaryDto> result = inFlightSearches.execute(
+                "name|" + SearchResultCache.nameKey(keyword, excludeMask, page, size),
+                () -> loadByName(keyword, excludeMask, page, size));
+        return withProfileWarnings(result, profileMask);
+    }
+
+    private PageResponse<DrugSummaryDto> loadByName(String keyword, int excludeMask, int page, int size) {
         try {
-            log.info("🔍 이름 검색 시작: {}", keyword);
-            List<DrugOverview> drugs = drugRepository.findByItemNameContaining(keyword);
-            log.info("✅ 이름 검색 결과: {}건 발견", drugs.size());
+            log.info("🔍 이름 검색 시작: {} (page={}, size={})", keyword, page, size);
+
+            LruCache<String, PageResponse<DrugSummaryDto>> cache = searchResultCache.byName();
+            String cacheKey = SearchResultCache.nameKey(keyword, excludeMask, page, size);
+            long generation = cache.generation();
+            PageResponse<DrugSummaryDto> cached = cache.get(cacheKey);
+            if (cached != null) {
+                log.info("⚡ 이름 검색 캐시 적중: {}", cacheKey);
+                return cached;
+            }
 
-            return drugs.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
+            DrugCatalog.Snapshot catalog = drugCatalog.snapshot();
+            DurPresenceFilter.Snapshot durFilter = excludeMask == 0 ? null : durPresenceFilter.snapshot();
+            boolean sameCatalog = durFilter != null && durFilter.catalog() == catalog;
+            List<String> itemSeqs;
+
+            if (catalog.isEmpty()) {
+                // 카탈로그 미적재 상태(테이블 없음 등)에서는 기존 LIKE 검색
+                itemSeqs = new ArrayList<>(drugRepository.findItemSeqsByItemNameContaining(escapeLike(keyword)));
+            } else {
+                // 메모리 n-gram 색인으로 후보 itemSeq 확정 (itemSeq 오름차순 유지)
+                // 프로필 금기 약 제외 시 같은 ordinal 비트셋으로 바로 걸러냄
+                BitSet excluded = sameCatalog ? durFilter.contraindicatedFor(excludeMask) : null;
+                int[] hits = catalog.searchName(keyword);
+                itemSeqs = new ArrayList<>(hits.length);
+                for (int ord : hits) {
+                    if (excluded != null && excluded.get(ord)) continue;
+                    itemSeqs.add(catalog.itemSeq(ord));
+                }
+            }
+            if (durFilter != null && !sameCatalog) {
+                itemSeqs.removeIf(itemSeq -> durFilter.matchingTypes(itemSeq, excludeMask) != 0);
+            }
+            log.info("✅ 이름 검색 결과: {}건 발견", itemSeqs.size());
+
+            PageResponse<DrugSummaryDto> result = toSummaryPage(itemSeqs, page, size);
+            cache.put(cacheKey, result, generation);
+            return result;
         } catch (Exception e) {
             log.error("❌ 이름 검색 중 치명적 에러 발생!", e); // 여기가 핵심입니다!
             throw e; // 에러를 다시 던져서 컨트롤러가 알게 함
@@ -45,9 +119,20 @@ public class SearchService {
     }
 
     // 2. 증상 검색 (MappingService로 증상 정규화 후 검색)
-    public List<DrugSearchDto> searchBySymptom(String keyword) {
+    public PageResponse<DrugSummaryDto> searchBySymptom(String keyword, SymptomMatchOp op, int page, int size,
+                                                        int profileMask, boolean exclude) {
+        int excludeMask = exclude ? ProfileDurType.excludableMask(profileMask) : 0;
+        // 증상 매핑 전 단계부터 합침 (키는 원본 키워드 기준)
+        PageResponse<DrugSummaryDto> result = inFlightSearches.execute(
+                "symptom|" + SearchResultCache.symptomFallbackKey(keyword, op, excludeMask, page, size),
+                () -> loadBySymptom(keyword, op, excludeMask, page, size));
+        return withProfileWarnings(result, profileMask);
+    }
+
+    private PageResponse<DrugSummaryDto> loadBySymptom(String keyword, SymptomMatchOp op, int excludeMask,
+                                                       int page, int size) {
         try {
-            log.info("🔍 증상 검색 시작: {}", keyword);
+            log.info("🔍 증상 검색 시작: {} (op={}, page={}, size={})", keyword, op, page, size);
 
             // 1) MappingService로 증상 정규화/매핑
             List<MatchResult> mappedSymptoms = mappingService.mapSymptoms(keyword);
@@ -55,57 +140,155 @@ public class SearchService {
                     .map(m -> m.displayNameKo() + "(" + m.confidence() + ")")
                     .collect(Collectors.joining(", ")));
 
-            // 2) 매핑된 증상들로 검색 (중복 제거를 위해 LinkedHashSet 사용)
-            Set<DrugOverview> resultSet = new LinkedHashSet<>();
+            // 1-1) 같은 증상 조합(순서/표현 무관) + 같은 신뢰도 결과가 캐시에 있으면 바로 반환
+            LruCache<String, PageResponse<DrugSummaryDto>> cache = searchResultCache.bySymptom();
+            String cacheKey = mappedSymptoms.isEmpty()
+                    ? SearchResultCache.symptomFallbackKey(keyword, op, excludeMask, page, size)
+                    : SearchResultCache.symptomKey(mappedSymptoms, op, excludeMask, page, size);
+            long generation = cache.generation();
+            PageResponse<DrugSummaryDto> cached = cache.get(cacheKey);
+            if (cached != null) {
+                log.info("⚡ 증상 검색 캐시 적중: {}", cacheKey);
+                return cached;
+            }
+
+            // 2) 매핑된 증상들로 검색 후 관련도 점수 누적 (신뢰도 × 등장 횟수/위치 × 커버 증상 수)
+            RelevanceRanking ranking = new RelevanceRanking(mappedSymptoms.size());
+            SymptomDrugIndex.Snapshot index = symptomDrugIndex.snapshot();
+
+            // op=all 이면 색인된 증상끼리 비트셋 AND 로 후보를 먼저 좁힘 (교집합 밖 약품은 점수 계산 생략)
+            BitSet candidates = null;
+            if (op == SymptomMatchOp.ALL && index != null && mappedSymptoms.size() > 1) {
+                List<Long> indexedIds = mappedSymptoms.stream()
+                        .map(MatchResult::symptomId)
+                        .filter(index::contains)
+                        .collect(Collectors.toList());
+                if (!indexedIds.isEmpty()) candidates = index.coveringAll(indexedIds);
+            }
+
+            // 프로필 금기 약 제외: 색인과 같은 카탈로그 기준이면 ordinal 비트셋으로 바로 거름
+            DurPresenceFilter.Snapshot durFilter = excludeMask == 0 ? null : durPresenceFilter.snapshot();
+            boolean sameCatalog = durFilter != null && index != null && durFilter.catalog() == index.catalog();
+            BitSet excluded = sameCatalog ? durFilter.contraindicatedFor(excludeMask) : null;
+            if (candidates != null && excluded != null) candidates.andNot(excluded);
+            boolean unindexedHits = false;
 
             for (MatchResult match : mappedSymptoms) {
-                // 표준 증상명(한글)으로 efficacyText 검색
                 String symptomName = match.displayNameKo();
-                List<DrugOverview> drugs = drugRepository.findByEfficacyTextContaining(symptomName);
-                resultSet.addAll(drugs);
-                log.info("  → '{}' 검색 결과: {}건", symptomName, drugs.size());
+                // 캐시 키와 같은 단위로 양자화한 신뢰도 → 같은 키면 항상 같은 점수
+                double confidence = SearchResultCache.quantizeConfidence(match.confidence());
+
+                if (index != null && index.contains(match.symptomId())) {
+                    // 미리 만들어 둔 증상 -> 약품 색인 조회
+                    SymptomDrugIndex.Postings postings = index.drugsFor(match.symptomId());
+                    for (int i = 0; i < postings.size(); i++) {
+                        int ord = postings.ordinals()[i];
+                        if (candidates != null && !candidates.get(ord)) continue;
+                        if (excluded != null && excluded.get(ord)) continue;
+                        ranking.add(index.catalog().itemSeq(ord), confidence,
+                                postings.termFrequencies()[i], postings.firstPositions()[i]);
+                    }
+                    log.info("  → '{}' 색인 결과: {}건", symptomName, postings.size());
+                } else {
+                    // 색인이 없으면 표준 증상명(한글)으로 efficacyText 검색 (등장 위치 정보 없음)
+                    List<String> itemSeqs = drugRepository.findItemSeqsByEfficacyTextContaining(escapeLike(symptomName));
+                    for (String itemSeq : itemSeqs) ranking.add(itemSeq, confidence, 1, -1);
+                    unindexedHits = true;
+                    log.info("  → '{}' 검색 결과: {}건", symptomName, itemSeqs.size());
+                }
             }
 
             // 3) 매핑 실패 시 기존 LIKE 검색 폴백
             if (mappedSymptoms.isEmpty()) {
                 log.info("⚠️ 매핑 실패, 원본 키워드로 폴백 검색: {}", keyword);
-                resultSet.addAll(drugRepository.findByEfficacyTextContaining(keyword));
+                for (String itemSeq : drugRepository.findItemSeqsByEfficacyTextContaining(escapeLike(keyword))) {
+                    ranking.add(itemSeq, 1.0, 1, -1);
+                }
+                unindexedHits = true;
+            }
+
+            // 비트셋으로 거르지 못한 결과(LIKE 폴백 / 카탈로그 교체 중)는 itemSeq 로 한 번 더 거름
+            if (durFilter != null && (unindexedHits || !sameCatalog)) {
+                ranking.removeIf(itemSeq -> durFilter.matchingTypes(itemSeq, excludeMask) != 0);
             }
 
-            log.info("✅ 증상 검색 최종 결과: {}건 발견", resultSet.size());
+            // op=all: 색인 밖(LIKE 폴백) 증상까지 포함해 전부 커버한 약만 남김
+            if (op == SymptomMatchOp.ALL) ranking.retainFullCoverage();
+
+            log.info("✅ 증상 검색 최종 결과: {}건 발견", ranking.size());
+
+            // 4) 요청 페이지까지만 상위 k개 선별 (전체 정렬 없음)
+            int k = (int) Math.min((long) (page + 1) * size, ranking.size());
+            List<RelevanceRanking.Scored> top = ranking.top(k);
+            List<RelevanceRanking.Scored> pageHits = top.subList((int) Math.min((long) page * size, top.size()), top.size());
+
+            List<String> pageSeqs = pageHits.stream().map(RelevanceRanking.Scored::itemSeq).collect(Collectors.toList());
+            List<DrugSummaryDto> content = loadSummaries(pageSeqs);
+            Map<String, Double> scores = new HashMap<>();
+            for (RelevanceRanking.Scored hit : pageHits) scores.put(hit.itemSeq(), hit.score());
+            for (DrugSummaryDto dto : content) dto.setScore(scores.get(dto.getItemSeq()));
 
-            return resultSet.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
+            PageResponse<DrugSummaryDto> result = new PageResponse<>(content, page, size, ranking.size(), k < ranking.size());
+            cache.put(cacheKey, result, generation);
+            return result;
         } catch (Exception e) {
             log.error("❌ 증상 검색 중 치명적 에러 발생!", e);
             throw e;
         }
     }
 
+    // 2-1. 약 상세 조회 (효능/용법/주의사항 본문 + DUR 목록)
+    public DrugSearchDto getDrugDetail(String itemSeq) {
+        DrugOverview drug = drugRepository.findById(itemSeq)
+                .orElseThrow(() -> new IllegalArgumentException("약 정보를 찾을 수 없습니다."));
+        return convertToDtos(List.of(drug)).get(0);
+    }
+
+    // 2-2. 약 이름 자동완성 (이름/초성 접두어, 메모리 색인만 사용)
+    public List<DrugSuggestionDto> suggest(String keyword, int limit) {
+        DrugSuggestIndex.Snapshot index = drugSuggestIndex.snapshot();
+        if (index == null) return Collections.emptyList();
+
+        int[] hits = index.suggest(keyword, limit);
+        List<DrugSuggestionDto> result = new ArrayList<>(hits.length);
+        for (int ord : hits) {
+            result.add(new DrugSuggestionDto(index.catalog().itemSeq(ord), index.catalog().itemName(ord)));
+        }
+        return result;
+    }
+
     // 3. 인기 약품 조회 (사용자들이 가장 많이 추가한 약)
     public List<DrugSearchDto> getPopularPills(int limit) {
         try {
             log.info("🔍 인기 약품 조회 시작 (상위 {}개)", limit);
 
-            // 가장 많이 추가된 약의 itemSeq 목록 조회
-            List<Object[]> popularIds = userPillRepository.findPopularPillIds(PageRequest.of(0, limit));
+            // 가장 많이 추가된 약의 itemSeq 목록 (메모리 순위 우선, 미적재 시 집계 쿼리)
+            List<String> itemSeqs;
+            if (pillPopularityService.isLoaded()) {
+                itemSeqs = pillPopularityService.topItemSeqs(limit);
+            } else {
+                itemSeqs = new ArrayList<>();
+                for (Object[] row : userPillRepository.findPopularPillIds(PageRequest.of(0, limit))) {
+                    itemSeqs.add((String) row[0]);
+                }
+            }
 
-            if (popularIds.isEmpty()) {
+            if (itemSeqs.isEmpty()) {
                 log.info("⚠️ 등록된 약이 없음, 빈 리스트 반환");
                 return Collections.emptyList();
             }
 
-            // itemSeq로 약 상세 정보 조회 (순서 유지)
-            List<DrugSearchDto> result = new ArrayList<>();
-            for (Object[] row : popularIds) {
-                String itemSeq = (String) row[0];
-                Long count = (Long) row[1];
-                log.debug("  → {} (등록 수: {})", itemSeq, count);
-
-                drugRepository.findById(itemSeq)
-                        .ifPresent(drug -> result.add(convertToDto(drug)));
+            // itemSeq로 약 상세 정보 한 번에 조회 (순서 유지), 금기 정보도 묶어서 조회
+            Map<String, DrugOverview> byId = new HashMap<>();
+            for (DrugOverview drug : drugRepository.findAllById(itemSeqs)) {
+                byId.put(drug.getItemSeq(), drug);
             }
+            List<DrugOverview> drugs = new ArrayList<>(itemSeqs.size());
+            for (String itemSeq : itemSeqs) {
+                DrugOverview drug = byId.get(itemSeq);
+                if (drug != null) drugs.add(drug);
+            }
+            List<DrugSearchDto> result = convertToDtos(drugs);
 
             log.info("✅ 인기 약품 조회 완료: {}건", result.size());
             return result;
@@ -115,16 +298,101 @@ public class SearchService {
         }
     }
 
-    // DTO 변환 (금기 정보 포함)
-    private DrugSearchDto convertToDto(DrugOverview drug) {
+    // LIKE 폴백 검색어의 \ % _ 를 글자 그대로 찾도록 이스케이프 (리포지토리 쿼리의 ESCAPE '\' 와 짝)
+    // - 그대로 넘기면 "%" 는 전체 약, "_" 는 아무 약이나 맞음
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // 정렬된 itemSeq 목록에서 요청 페이지만 잘라 경량 DTO 로 조회 (쿼리 1회)
+    private PageResponse<DrugSummaryDto> toSummaryPage(List<String> itemSeqs, int page, int size) {
+        int from = (int) Math.min((long) page * size, itemSeqs.size());
+        int to = Math.min(from + size, itemSeqs.size());
+        List<DrugSummaryDto> content = loadSummaries(itemSeqs.subList(from, to));
+        return new PageResponse<>(content, page, size, itemSeqs.size(), to < itemSeqs.size());
+    }
+
+    // 캐시된 결과에 로그인 사용자 기준 프로필 경고를 붙인 복사본 (메모리 비트 조회만, DB 조회 없음)
+    private PageResponse<DrugSummaryDto> withProfileWarnings(PageResponse<DrugSummaryDto> page, int profileMask) {
+        DurPresenceFilter.Snapshot durFilter = durPresenceFilter.snapshot();
+        if (profileMask == 0 || durFilter == null || page.content().isEmpty()) return page;
+
+        List<DrugSummaryDto> content = new ArrayList<>(page.content().size());
+        for (DrugSummaryDto dto : page.content()) {
+            int matched = durFilter.matchingTypes(dto.getItemSeq(), profileMask);
+            content.add(matched == 0 ? dto : dto.withProfileWarnings(ProfileDurType.labels(matched)));
+        }
+        return new PageResponse<>(content, page.page(), page.size(), page.totalElements(), page.hasNext());
+    }
+
+    // itemSeq 목록 순서대로 경량 DTO 조회
+    private List<DrugSummaryDto> loadSummaries(List<String> pageSeqs) {
+        List<DrugSummaryDto> content = new ArrayList<>(pageSeqs.size());
+        if (pageSeqs.isEmpty()) return content;
+
+        Map<String, DrugSummaryDto> byId = new HashMap<>();
+        DurPresenceFilter.Snapshot durFilter = durPresenceFilter.snapshot();
+        if (durFilter == null) {
+            // 필터 미적재 시 DUR 건수 서브쿼리 포함 단일 쿼리
+            for (DrugSummaryDto dto : drugRepository.findSummariesByItemSeqIn(pageSeqs)) {
+                byId.put(dto.getItemSeq(), dto);
+            }
+        } else {
+            for (DrugSummaryDto dto : drugRepository.findSummariesWithoutDurCountByItemSeqIn(pageSeqs)) {
+                byId.put(dto.getItemSeq(), dto);
+            }
+            // DUR 이 있을 수 있는 약만 건수 집계 (하나도 없으면 쿼리 생략)
+            List<String> durSeqs = pageSeqs.stream().filter(durFilter::mayHaveDurInfo).collect(Collectors.toList());
+            if (!durSeqs.isEmpty()) {
+                for (Object[] row : durInfoRepository.countByItemCodeIn(durSeqs)) {
+                    DrugSummaryDto dto = byId.get((String) row[0]);
+                    if (dto != null) byId.put(dto.getItemSeq(), dto.withDurCount(((Number) row[1]).longValue()));
+                }
+            }
+        }
+        for (String itemSeq : pageSeqs) {
+            DrugSummaryDto dto = byId.get(itemSeq);
+            if (dto != null) content.add(dto);
+        }
+        return content;
+    }
+
+    // DTO 일괄 변환 (금기 정보 포함)
+    // 약마다 findByItemCode 를 부르지 않고 IN 쿼리로 모아서 조회 후 item_code 별로 묶음
+    private List<DrugSearchDto> convertToDtos(List<DrugOverview> drugs) {
+        Map<String, List<DurInfo>> durByCode = loadDurInfo(drugs);
+
+        List<DrugSearchDto> result = new ArrayList<>(drugs.size());
+        for (DrugOverview drug : drugs) {
+            List<DurInfo> durList = durByCode.getOrDefault(drug.getItemSeq(), Collections.emptyList());
+            result.add(DrugSearchDto.from(drug, durList));
+        }
+        return result;
+    }
+
+    private Map<String, List<DurInfo>> loadDurInfo(List<DrugOverview> drugs) {
+        // DUR 보유 필터에서 확실히 없는 약은 조회 대상에서 제외
+        DurPresenceFilter.Snapshot durFilter = durPresenceFilter.snapshot();
+        List<String> itemCodes = drugs.stream()
+                .map(DrugOverview::getItemSeq)
+                .distinct()
+                .filter(itemSeq -> durFilter == null || durFilter.mayHaveDurInfo(itemSeq))
+                .collect(Collectors.toList());
+        Map<String, List<DurInfo>> durByCode = new HashMap<>();
+        if (itemCodes.isEmpty()) return durByCode;
+
         try {
-            // 약 코드로 금기사항 조회
-            List<DurInfo> durList = durInfoRepository.findByItemCode(drug.getItemSeq());
-            return DrugSearchDto.from(drug, durList);
+            for (int from = 0; from < itemCodes.size(); from += ID_BATCH_SIZE) {
+                List<String> chunk = itemCodes.subList(from, Math.min(from + ID_BATCH_SIZE, itemCodes.size()));
+                for (DurInfo dur : durInfoRepository.findByItemCodeIn(chunk)) {
+                    durByCode.computeIfAbsent(dur.getItemCode(), k -> new ArrayList<>()).add(dur);
+                }
+            }
         } catch (Exception e) {
             // 금기사항 조회하다 에러나면, 약 정보라도 보여주기 위해 로그만 찍고 빈 리스트 처리
-            log.warn("⚠️ 금기사항(DUR) 조회 실패 (약 코드: {}): {}", drug.getItemSeq(), e.getMessage());
-            return DrugSearchDto.from(drug, Collections.emptyList());
+            log.warn("⚠️ 금기사항(DUR) 일괄 조회 실패 (약 {}건): {}", itemCodes.size(), e.getMessage());
+            return Collections.emptyMap();
         }
+        return durByCode;
     }
-}
\ No newline at end of file
+}
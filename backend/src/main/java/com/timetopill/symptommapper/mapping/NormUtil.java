@@ -71,6 +71,29 @@ public class NormUtil {
         return sb.toString();
     }
 
+    /** 한글 초성 추출 (예: "타이레놀" -> "ㅌㅇㄹㄴ"), 한글 음절이 아닌 글자는 그대로 */
+    public static String toChosung(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch >= 0xAC00 && ch <= 0xD7A3) {
+                sb.append(CHO[(ch - 0xAC00) / (21 * 28)]);
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 한글 호환 자모 자음(ㄱ~ㅎ)이 하나라도 있으면 초성 검색어로 취급 */
+    public static boolean hasChosung(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch >= 0x3131 && ch <= 0x314E) return true;
+        }
+        return false;
+    }
+
     // 초성/중성/종성 테이블(간단 구현)
     private static final char[] CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
     private static final char[] JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
@@ -0,0 +1,142 @@
+package com.timetopill.text;
+
+/**
+ * 문자열을 한 번만 훑으며 정리하는 스캐너 (정규식 replaceAll 여러 번 대신)
+ * - CDATA 표시 / HTML 태그 제거 (태그 자리는 공백)
+ * - 제어/포맷/할당되지 않은 문자(\p{C})는 공백
+ * - 허용 문자 집합 밖의 문자는 공백
+ * - 연속 공백은 하나로, 앞뒤 공백은 제거
+ * - maxLength 에 도달하면 더 읽지 않음 (기존 "정리 후 자르기"와 같은 결과)
+ * 결과가 입력과 같으면 입력 문자열을 그대로 돌려줌 → 이미 깨끗한 값은 char[] 하나만 할당
+ * 기존 정규식 정리와 다른 점 (TextSanitizerParityTest 에서 고정)
+ * - MARKUP 에서도 제어/포맷 문자(제로폭 공백 등)는 공백
+ * - 자르는 위치의 서로게이트 쌍은 반쪽만 남기지 않고 통째로 버림
+ * - CDATA 시작 표시를 지워서 새로 생기는 "]]>" 는 지우지 않음 (예: "]]<![CDATA[>x" → "]]>x")
+ */
+public final class TextSanitizer {
+
+    /** 식약처 문서 필드 (EE/UD/NB_DOC_DATA): 마크업 제거 + 제어문자/공백 정리, 문자 종류는 그대로 */
+    public static final TextSanitizer MARKUP = new TextSanitizer(true, null);
+
+    /** 증상 검색어: 한글(가-힣), 영문, 숫자, #, 쉼표, 슬래시, 앰퍼샌드만 남김 (이모지 등은 공백) */
+    public static final TextSanitizer SEARCH_QUERY = new TextSanitizer(false, TextSanitizer::isQueryChar);
+
+    private static final String CDATA_OPEN = "<![CDATA[";
+    private static final String CDATA_CLOSE = "]]>";
+
+    /** 허용 문자 판별 (code point 단위) */
+    @FunctionalInterface
+    public interface CharFilter {
+        boolean allows(int codePoint);
+    }
+
+    private final boolean stripMarkup;
+    private final CharFilter allowed;   // null 이면 모든 문자 허용
+
+    public TextSanitizer(boolean stripMarkup, CharFilter allowed) {
+        this.stripMarkup = stripMarkup;
+        this.allowed = allowed;
+    }
+
+    public String sanitize(String input) {
+        return sanitize(input, Integer.MAX_VALUE);
+    }
+
+    public String sanitize(String input, int maxLength) {
+        if (input == null || input.isEmpty() || maxLength <= 0) return "";
+
+        int n = input.length();
+        char[] out = new char[Math.min(n, maxLength)];
+        int len = 0;
+        boolean pendingSpace = false;   // 공백은 다음 글자가 나올 때만 하나 씀 (앞뒤 공백 자동 제거)
+        boolean changed = false;        // 입력을 한 글자라도 바꿨는지
+        int noTagCloseFrom = n;         // 이 위치 이후로는 '>' 가 없음 (닫히지 않은 '<' 재탐색 방지)
+
+        int i = 0;
+        while (i < n && len < out.length) {
+            char c = input.charAt(i);
+
+            // 1) 마크업: CDATA 표시는 그냥 지우고, 태그는 공백으로
+            if (stripMarkup && (c == '<' || c == ']')) {
+                if (input.startsWith(CDATA_OPEN, i)) {
+                    i += CDATA_OPEN.length();
+                    changed = true;
+                    continue;
+                }
+                if (input.startsWith(CDATA_CLOSE, i)) {
+                    i += CDATA_CLOSE.length();
+                    changed = true;
+                    continue;
+                }
+                if (c == '<' && i < noTagCloseFrom) {
+                    int close = tagClose(input, i + 1);
+                    if (close >= 0) {
+                        i = close + 1;
+                        pendingSpace = true;
+                        changed = true;
+                        continue;
+                    }
+                    noTagCloseFrom = i;
+                }
+            }
+
+            int cp = Character.codePointAt(input, i);
+            int width = Character.charCount(cp);
+            i += width;
+
+            // 2) 공백 / 제어문자 / 허용하지 않는 문자 → 공백 하나
+            if (isAsciiSpace(cp) || isOther(cp) || (allowed != null && !allowed.allows(cp))) {
+                if (cp != ' ' || pendingSpace || len == 0) changed = true;
+                pendingSpace = true;
+                continue;
+            }
+
+            // 3) 일반 글자 (앞에 공백이 있었으면 공백 하나 먼저)
+            if (pendingSpace && len > 0) {
+                out[len++] = ' ';
+                if (len == out.length) break;
+            }
+            pendingSpace = false;
+            if (width == 2 && len + 1 == out.length) {
+                changed = true;   // 서로게이트 쌍이 잘리면 반쪽만 남지 않도록 버림
+                break;
+            }
+            out[len++] = (char) (width == 2 ? Character.highSurrogate(cp) : cp);
+            if (width == 2) out[len++] = Character.lowSurrogate(cp);
+        }
+
+        if (i < n || pendingSpace) changed = true;   // 잘렸거나 끝 공백을 지움
+        return changed ? new String(out, 0, len) : input;
+    }
+
+    // 태그를 닫는 '>' 위치 (CDATA 닫는 표시 "]]>" 의 '>' 는 먼저 지워지므로 제외), 없으면 -1
+    private static int tagClose(String input, int from) {
+        int close = input.indexOf('>', from);
+        while (close >= 0 && close - 2 >= from && input.startsWith(CDATA_CLOSE, close - 2)) {
+            close = input.indexOf('>', close + 1);
+        }
+        return close;
+    }
+
+    // 정규식 \s 와 같은 범위 (공백, \t, \n, \x0B, \f, \r)
+    private static boolean isAsciiSpace(int cp) {
+        return cp == ' ' || (cp >= '\t' && cp <= '\r');
+    }
+
+    // 정규식 \p{C} 와 같은 범위 (제어, 포맷, 서로게이트, 사용자 정의, 미할당)
+    private static boolean isOther(int cp) {
+        return switch (Character.getType(cp)) {
+            case Character.CONTROL, Character.FORMAT, Character.SURROGATE,
+                 Character.PRIVATE_USE, Character.UNASSIGNED -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isQueryChar(int cp) {
+        return (cp >= '0' && cp <= '9')
+                || (cp >= 'a' && cp <= 'z')
+                || (cp >= 'A' && cp <= 'Z')
+                || (cp >= '가' && cp <= '힣')
+                || cp == '#' || cp == ',' || cp == '/' || cp == '&';
+    }
+}
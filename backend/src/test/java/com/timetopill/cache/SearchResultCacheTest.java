@@ -0,0 +1,43 @@
+package com.timetopill.cache;
+
+import com.timetopill.dto.SymptomMatchOp;
+import com.timetopill.symptommapper.mapping.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    @Test
+    void symptomKeyIgnoresOrderOfMappedSymptoms() {
+        String key = SearchResultCache.symptomKey(List.of(match(1L, 1.0), match(2L, 0.8)), SymptomMatchOp.ANY, 0, 0, 20);
+        String reversed = SearchResultCache.symptomKey(List.of(match(2L, 0.8), match(1L, 1.0)), SymptomMatchOp.ANY, 0, 0, 20);
+
+        assertThat(key).isEqualTo(reversed);
+    }
+
+    @Test
+    void symptomKeyDependsOnConfidence() {
+        // 같은 증상이라도 오타 교정/부분 일치로 신뢰도가 다르면 점수가 달라지므로 다른 키
+        String exact = SearchResultCache.symptomKey(List.of(match(1L, 1.0)), SymptomMatchOp.ANY, 0, 0, 20);
+        String fuzzy = SearchResultCache.symptomKey(List.of(match(1L, 0.7)), SymptomMatchOp.ANY, 0, 0, 20);
+
+        assertThat(exact).isNotEqualTo(fuzzy);
+    }
+
+    @Test
+    void confidenceIsQuantizedForKeyAndScore() {
+        String a = SearchResultCache.symptomKey(List.of(match(1L, 0.8512)), SymptomMatchOp.ALL, 0, 0, 20);
+        String b = SearchResultCache.symptomKey(List.of(match(1L, 0.8498)), SymptomMatchOp.ALL, 0, 0, 20);
+
+        assertThat(a).isEqualTo(b);
+        assertThat(SearchResultCache.quantizeConfidence(0.8512)).isEqualTo(0.85);
+        assertThat(SearchResultCache.quantizeConfidence(0.8498)).isEqualTo(0.85);
+    }
+
+    private static MatchResult match(Long symptomId, double confidence) {
+        return new MatchResult(symptomId, "S" + symptomId, "증상" + symptomId, confidence, "alias", "", "");
+    }
+}
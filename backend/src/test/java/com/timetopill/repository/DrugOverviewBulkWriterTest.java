@@ -0,0 +1,99 @@
+package com.timetopill.repository;
+
+import com.timetopill.entity.DrugOverview;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DrugOverviewBulkWriter 다중 행 upsert (H2 MySQL 모드의 ON DUPLICATE KEY UPDATE)
+ * write-batch-size 를 3 으로 줄여 여러 문장으로 나뉘는 경우도 함께 확인
+ */
+@DataJpaTest(properties = "drug.fetch.write-batch-size=3")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(DrugOverviewBulkWriter.class)
+class DrugOverviewBulkWriterTest {
+
+    @Autowired private DrugOverviewBulkWriter bulkWriter;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertsNewRowsAcrossStatements() {
+        List<DrugOverview> drugs = new ArrayList<>();
+        for (int i = 0; i < 7; i++) drugs.add(drug("20000000" + i, "약" + i, "hash" + i));
+
+        int written = bulkWriter.upsert(drugs);
+
+        assertThat(written).isEqualTo(7);
+        assertThat(count()).isEqualTo(7);
+        assertThat(row("200000006"))
+                .containsEntry("item_name", "약6")
+                .containsEntry("entp_name", "제약사")
+                .containsEntry("efficacy_text", "효능 약6")
+                .containsEntry("use_method_text", "용법 약6")
+                .containsEntry("warning_text_1", "주의 약6")
+                .containsEntry("content_hash", "hash6");
+    }
+
+    @Test
+    void updatesExistingRowsIncludingContentHash() {
+        bulkWriter.upsert(List.of(
+                drug("200000001", "이전 이름", "old-hash-1"),
+                drug("200000002", "그대로", "hash-2")));
+
+        // 기존 1건 변경 + 새 약 1건을 한 문장에
+        int written = bulkWriter.upsert(List.of(
+                drug("200000001", "새 이름", "new-hash-1"),
+                drug("200000003", "새 약", "hash-3")));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(count()).isEqualTo(3);
+        assertThat(row("200000001"))
+                .containsEntry("item_name", "새 이름")
+                .containsEntry("efficacy_text", "효능 새 이름")
+                .containsEntry("content_hash", "new-hash-1");
+        assertThat(row("200000002"))
+                .containsEntry("item_name", "그대로")
+                .containsEntry("content_hash", "hash-2");
+        assertThat(row("200000003")).containsEntry("content_hash", "hash-3");
+    }
+
+    @Test
+    void emptyListWritesNothing() {
+        assertThat(bulkWriter.upsert(List.of())).isZero();
+        assertThat(count()).isZero();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM drug_overview", Integer.class);
+    }
+
+    private Map<String, Object> row(String itemSeq) {
+        return jdbcTemplate.queryForMap(
+                "SELECT item_name, entp_name, efficacy_text, use_method_text, warning_text_1, content_hash "
+                + "FROM drug_overview WHERE item_seq = ?", itemSeq);
+    }
+
+    private static DrugOverview drug(String itemSeq, String itemName, String contentHash) {
+        DrugOverview drug = new DrugOverview();
+        drug.setItemSeq(itemSeq);
+        drug.setItemName(itemName);
+        drug.setEntpName("제약사");
+        drug.setEfficacyText("효능 " + itemName);
+        drug.setUseMethodText("용법 " + itemName);
+        drug.setWarningText1("주의 " + itemName);
+        drug.setContentHash(contentHash);
+        return drug;
+    }
+}
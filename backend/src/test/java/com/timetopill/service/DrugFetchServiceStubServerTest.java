@@ -0,0 +1,198 @@
+package com.timetopill.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.timetopill.entity.DrugOverview;
+import com.timetopill.repository.DrugOverviewBulkWriter;
+import com.timetopill.repository.DrugOverviewRepository;
+import com.timetopill.repository.IngestionCheckpointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 식약처 API 대신 로컬 스텁 HTTP 서버로 DrugFetchService 동시 요청 파이프라인 확인
+ * - 응답마다 지연을 넣고 동시 요청 수별 처리 시간/서버 동시 처리 수 비교
+ * - 저장 스레드가 interrupt 되어도 요청 스레드를 기다리며 멈추지 않는지 확인
+ */
+class DrugFetchServiceStubServerTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int PAGES = 24;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long firstPageDelayMs = -1;   // -1 이면 pageDelayMs 와 같음
+    private volatile long pageDelayMs;
+
+    private final Set<String> savedItemSeqs = ConcurrentHashMap.newKeySet();
+    private DrugOverviewBulkWriter bulkWriter;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/drugs", this::servePage);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void concurrentFetchOverlapsRequestLatency() {
+        pageDelayMs = 50;
+
+        long sequential = timeFetch(1);
+        int sequentialMax = maxInFlight.getAndSet(0);
+        savedItemSeqs.clear();
+        long concurrent = timeFetch(8);
+        int concurrentMax = maxInFlight.get();
+
+        // 모든 페이지가 한 번씩 저장됨
+        assertThat(savedItemSeqs).hasSize(PAGES * PAGE_SIZE);
+        // 동시 요청 수 제한 준수 + 실제로 겹쳐서 요청
+        assertThat(sequentialMax).isEqualTo(1);
+        assertThat(concurrentMax).isBetween(2, 8);
+        // 지연 50ms × 24페이지: 순차는 1.2초 이상, 8개 동시면 그 절반도 안 걸려야 함
+        assertThat(sequential).isGreaterThanOrEqualTo(PAGES * pageDelayMs);
+        assertThat(concurrent).isLessThan(sequential / 2);
+    }
+
+    @Test
+    void interruptedWriterDoesNotWaitForBlockedFetchers() throws Exception {
+        // 첫 페이지는 바로, 나머지는 느리게 → 저장 스레드가 queue.take() 에서 기다리는 동안 interrupt
+        firstPageDelayMs = 0;
+        pageDelayMs = 500;
+        CountDownLatch firstPageSaved = new CountDownLatch(1);
+        DrugFetchService service = newService(8, 1, firstPageSaved);
+
+        AtomicInteger finished = new AtomicInteger();
+        Thread writer = Thread.ofPlatform().start(() -> {
+            DrugFetchService.FetchResult result = service.fetch(false, false);
+            if (!result.completed()) finished.incrementAndGet();
+        });
+
+        assertThat(firstPageSaved.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.interrupt();
+
+        // 큐 용량 1 + 요청 8개: 예전에는 put 에서 막힌 요청 스레드 때문에 close() 가 끝나지 않았음
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(writer.isAlive()).isFalse();
+        assertThat(finished.get()).isEqualTo(1);
+    }
+
+    private long timeFetch(int concurrency) {
+        DrugFetchService service = newService(concurrency, 16, null);
+        long start = System.nanoTime();
+        DrugFetchService.FetchResult result = service.fetch(false, false);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(result.completed()).isTrue();
+        assertThat(result.pages()).isEqualTo(PAGES);
+        assertThat(result.inserted()).isEqualTo(PAGES * PAGE_SIZE);
+        return elapsedMs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private DrugFetchService newService(int concurrency, int queueCapacity, CountDownLatch firstPageSaved) {
+        DrugOverviewRepository drugRepository = mock(DrugOverviewRepository.class);
+        IngestionCheckpointRepository checkpointRepository = mock(IngestionCheckpointRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        bulkWriter = mock(DrugOverviewBulkWriter.class);
+
+        given(transactionTemplate.execute(any()))
+                .willAnswer(inv -> ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null));
+        given(bulkWriter.upsert(anyList())).willAnswer(inv -> {
+            List<DrugOverview> drugs = inv.getArgument(0);
+            drugs.forEach(drug -> savedItemSeqs.add(drug.getItemSeq()));
+            if (firstPageSaved != null) firstPageSaved.countDown();
+            return drugs.size();
+        });
+
+        // 요청 속도 제한은 이 테스트의 관심사가 아니므로 충분히 크게
+        String apiUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/drugs";
+        HttpDrugPageSource pageSource = new HttpDrugPageSource(apiUrl, 1000, 10_000, 10_000, 1, 10_000);
+
+        DrugFetchService service = new DrugFetchService(drugRepository, bulkWriter, checkpointRepository,
+                transactionTemplate, mock(ApplicationEventPublisher.class), pageSource);
+        ReflectionTestUtils.setField(service, "fetchConcurrency", concurrency);
+        ReflectionTestUtils.setField(service, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(service, "maxAttempts", 1);
+        ReflectionTestUtils.setField(service, "retryBackoffMs", 0L);
+        ReflectionTestUtils.setField(service, "retryBudgetRatio", 0.2);
+        ReflectionTestUtils.setField(service, "retryBudgetMin", 10);
+        ReflectionTestUtils.setField(service, "pageSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(service, "jdbcWrite", true);
+        return service;
+    }
+
+    // { "header": {...}, "body": { "totalCount": N, "items": [ ... ] } } - pageNo 페이지의 약 PAGE_SIZE 건
+    private void servePage(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            int pageNo = pageNoOf(exchange.getRequestURI().getRawQuery());
+            Thread.sleep(pageNo == 1 && firstPageDelayMs >= 0 ? firstPageDelayMs : pageDelayMs);
+
+            StringBuilder json = new StringBuilder("{\"header\":{\"resultCode\":\"00\"},\"body\":{\"totalCount\":")
+                    .append(PAGES * PAGE_SIZE).append(",\"items\":[");
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                int item = (pageNo - 1) * PAGE_SIZE + i;
+                if (i > 0) json.append(',');
+                json.append("{\"ITEM_SEQ\":\"").append(300000000 + item)
+                        .append("\",\"ITEM_NAME\":\"스텁약").append(item)
+                        .append("정\",\"ENTP_NAME\":\"스텁제약\",\"EE_DOC_DATA\":\"<p>두통의 완화</p>\"}");
+            }
+            json.append("]}}");
+
+            byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static int pageNoOf(String query) {
+        for (String param : query.split("&")) {
+            if (param.startsWith("pageNo=")) return Integer.parseInt(param.substring("pageNo=".length()));
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,99 @@
+package com.timetopill.service;
+
+import com.timetopill.cache.SearchResultCache;
+import com.timetopill.dto.DrugSummaryDto;
+import com.timetopill.dto.PageResponse;
+import com.timetopill.dto.SymptomMatchOp;
+import com.timetopill.entity.DrugOverview;
+import com.timetopill.index.DrugCatalog;
+import com.timetopill.index.DrugSuggestIndex;
+import com.timetopill.index.DurPresenceFilter;
+import com.timetopill.index.SymptomDrugIndex;
+import com.timetopill.symptommapper.service.MappingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * DB LIKE 폴백 검색(카탈로그 미적재 이름 검색 / 증상 매핑 실패)에서 % _ 가 와일드카드로 동작하지 않는지 확인
+ * - 이 컨텍스트에서는 카탈로그를 다시 빌드하지 않으므로 이름 검색도 항상 LIKE 경로
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SearchService.class, DrugCatalog.class, DurPresenceFilter.class, SearchResultCache.class})
+class SearchServiceLikeEscapeTest {
+
+    @Autowired private SearchService searchService;
+    @Autowired private DrugCatalog drugCatalog;
+    @Autowired private SearchResultCache searchResultCache;
+    @Autowired private TestEntityManager em;
+
+    @MockitoBean private MappingService mappingService;
+    @MockitoBean private SymptomDrugIndex symptomDrugIndex;
+    @MockitoBean private DrugSuggestIndex drugSuggestIndex;
+    @MockitoBean private PillPopularityService pillPopularityService;
+
+    @BeforeEach
+    void setUp() {
+        em.persist(drug("200000001", "타이레놀정500밀리그램", "두통, 발열"));
+        em.persist(drug("200000002", "포도당주사액5%", "탈수 시 수분 보급 (5% 용액)"));
+        em.persist(drug("200000003", "게보린정", "두통, 치통"));
+        em.flush();
+        em.clear();
+
+        searchResultCache.invalidateAll("test");
+        given(mappingService.mapSymptoms(anyString())).willReturn(List.of());   // 항상 원본 키워드 폴백
+        assertThat(drugCatalog.snapshot().isEmpty()).isTrue();
+    }
+
+    @Test
+    void nameLikeFallbackTreatsWildcardsLiterally() {
+        assertThat(searchByName("%").totalElements()).isZero();
+        assertThat(searchByName("_").totalElements()).isZero();
+        assertThat(searchByName("\\").totalElements()).isZero();
+        assertThat(searchByName("5%").content()).extracting(DrugSummaryDto::getItemSeq)
+                .containsExactly("200000002");
+        assertThat(searchByName("정").totalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void symptomLikeFallbackTreatsWildcardsLiterally() {
+        assertThat(searchBySymptom("%").totalElements()).isZero();
+        assertThat(searchBySymptom("_").totalElements()).isZero();
+        assertThat(searchBySymptom("5%").content()).extracting(DrugSummaryDto::getItemSeq)
+                .containsExactly("200000002");
+        assertThat(searchBySymptom("두통").totalElements()).isEqualTo(2);
+    }
+
+    private PageResponse<DrugSummaryDto> searchByName(String keyword) {
+        return searchService.searchByName(keyword, 0, 20, 0, false);
+    }
+
+    private PageResponse<DrugSummaryDto> searchBySymptom(String keyword) {
+        return searchService.searchBySymptom(keyword, SymptomMatchOp.ANY, 0, 20, 0, false);
+    }
+
+    private static DrugOverview drug(String itemSeq, String itemName, String efficacyText) {
+        DrugOverview drug = new DrugOverview();
+        drug.setItemSeq(itemSeq);
+        drug.setItemName(itemName);
+        drug.setEntpName("테스트제약");
+        drug.setEfficacyText(efficacyText);
+        drug.setUseMethodText("1일 3회");
+        drug.setWarningText1("");
+        return drug;
+    }
+}
@@ -0,0 +1,223 @@
+package com.timetopill.service;
+
+import com.timetopill.cache.SearchResultCache;
+import com.timetopill.dto.DrugSearchDto;
+import com.timetopill.dto.DrugSummaryDto;
+import com.timetopill.dto.PageResponse;
+import com.timetopill.dto.SymptomMatchOp;
+import com.timetopill.entity.DrugOverview;
+import com.timetopill.entity.DurInfo;
+import com.timetopill.index.DrugCatalog;
+import com.timetopill.index.DrugSuggestIndex;
+import com.timetopill.index.DurPresenceFilter;
+import com.timetopill.index.SymptomDrugIndex;
+import com.timetopill.symptommapper.mapping.MatchResult;
+import com.timetopill.symptommapper.mapping.SymptomDictionaryCache;
+import com.timetopill.symptommapper.mapping.SymptomDictionaryCache.SymptomRef;
+import com.timetopill.symptommapper.service.MappingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 검색 목록/인기 약품 조회의 SQL 문 개수 회귀 테스트 (N+1 재발 방지)
+ * - Hibernate Statistics 로 실행된 문장 수를 세고, 결과 건수(N)가 늘어도 문장 수가 그대로인지 확인
+ * - 증상 검색은 실제 SymptomDrugIndex 를 쓰고 증상 사전만 목으로 대체 (두통만 색인, 발열은 색인 밖)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SearchService.class, DrugCatalog.class, DurPresenceFilter.class, SymptomDrugIndex.class, SearchResultCache.class})
+class SearchServiceQueryCountTest {
+
+    private static final int DRUG_COUNT = 60;
+    private static final long HEADACHE_ID = 1L;     // 색인된 증상
+    private static final long FEVER_ID = 2L;        // 사전에 없음 → LIKE 검색
+
+    @Autowired private SearchService searchService;
+    @Autowired private DrugCatalog drugCatalog;
+    @Autowired private DurPresenceFilter durPresenceFilter;
+    @Autowired private SymptomDrugIndex symptomDrugIndex;
+    @Autowired private SearchResultCache searchResultCache;
+    @Autowired private TestEntityManager em;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean private MappingService mappingService;
+    @MockitoBean private SymptomDictionaryCache symptomDictionary;
+    @MockitoBean private DrugSuggestIndex drugSuggestIndex;
+    @MockitoBean private PillPopularityService pillPopularityService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 짝수 번째 약만 DUR 금기 정보 2건씩
+        for (int i = 0; i < DRUG_COUNT; i++) {
+            String itemSeq = itemSeq(i);
+            em.persist(drug(itemSeq, "테스트약" + i + "정"));
+            if (i % 2 == 0) {
+                em.persist(dur(itemSeq, "임부금기"));
+                em.persist(dur(itemSeq, "노인주의"));
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        searchResultCache.invalidateAll("test");
+        given(symptomDictionary.getSymptomById())
+                .willReturn(Map.of(HEADACHE_ID, new SymptomRef(HEADACHE_ID, "S001", "두통")));
+    }
+
+    @Test
+    void nameSearchUsesConstantStatementsRegardlessOfResultCount() {
+        loadIndexes();
+
+        long small = countStatements(() -> searchService.searchByName("테스트약", 0, 5, 0, false));
+        searchResultCache.invalidateAll("test");
+        long large = countStatements(() -> searchService.searchByName("테스트약", 0, DRUG_COUNT, 0, false));
+
+        // 목록 경량 조회 1 + DUR 보유 약 건수 집계 1
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void nameSearchReturnsDurCountsInItemSeqOrder() {
+        loadIndexes();
+
+        PageResponse<DrugSummaryDto> page = searchService.searchByName("테스트약", 0, DRUG_COUNT, 0, false);
+
+        assertThat(page.totalElements()).isEqualTo(DRUG_COUNT);
+        assertThat(page.content()).extracting(DrugSummaryDto::getItemSeq)
+                .containsExactlyElementsOf(itemSeqs(DRUG_COUNT));
+        assertThat(page.content().get(0).getDurCount()).isEqualTo(2);
+        assertThat(page.content().get(1).getDurCount()).isZero();
+    }
+
+    @Test
+    void indexedSymptomSearchUsesConstantStatementsRegardlessOfResultCount() {
+        loadIndexes();
+        assertThat(symptomDrugIndex.snapshot().contains(HEADACHE_ID)).isTrue();
+        given(mappingService.mapSymptoms("머리가 아파요")).willReturn(List.of(match(HEADACHE_ID, "두통")));
+
+        long small = countStatements(() -> searchService.searchBySymptom("머리가 아파요", SymptomMatchOp.ANY, 0, 5, 0, false));
+        searchResultCache.invalidateAll("test");
+        List<PageResponse<DrugSummaryDto>> pages = new ArrayList<>();
+        long large = countStatements(() -> pages.add(
+                searchService.searchBySymptom("머리가 아파요", SymptomMatchOp.ANY, 0, DRUG_COUNT, 0, false)));
+
+        // 색인 조회는 메모리 → 목록 경량 조회 1 + DUR 보유 약 건수 집계 1
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+        assertThat(pages.get(0).totalElements()).isEqualTo(DRUG_COUNT);
+        assertThat(pages.get(0).content()).hasSize(DRUG_COUNT);
+    }
+
+    @Test
+    void symptomLikeFallbackAddsOneStatementRegardlessOfResultCount() {
+        loadIndexes();
+
+        // 매핑 실패 → 원본 키워드로 efficacyText LIKE
+        given(mappingService.mapSymptoms("발열")).willReturn(List.of());
+        long small = countStatements(() -> searchService.searchBySymptom("발열", SymptomMatchOp.ANY, 0, 5, 0, false));
+        searchResultCache.invalidateAll("test");
+        long large = countStatements(() -> searchService.searchBySymptom("발열", SymptomMatchOp.ANY, 0, DRUG_COUNT, 0, false));
+
+        // LIKE 1 + 목록 경량 조회 1 + DUR 보유 약 건수 집계 1
+        assertThat(small).isEqualTo(3);
+        assertThat(large).isEqualTo(small);
+
+        // 매핑은 됐지만 색인에 없는 증상 → 표준 증상명으로 LIKE (문장 수 동일)
+        searchResultCache.invalidateAll("test");
+        given(mappingService.mapSymptoms("열나요")).willReturn(List.of(match(FEVER_ID, "발열")));
+        List<PageResponse<DrugSummaryDto>> pages = new ArrayList<>();
+        long unindexed = countStatements(() -> pages.add(
+                searchService.searchBySymptom("열나요", SymptomMatchOp.ANY, 0, DRUG_COUNT, 0, false)));
+
+        assertThat(unindexed).isEqualTo(3);
+        assertThat(pages.get(0).totalElements()).isEqualTo(DRUG_COUNT);
+    }
+
+    @Test
+    void popularPillsUseConstantStatementsRegardlessOfResultCount() {
+        loadIndexes();
+        given(pillPopularityService.isLoaded()).willReturn(true);
+
+        given(pillPopularityService.topItemSeqs(5)).willReturn(itemSeqs(5));
+        long small = countStatements(() -> searchService.getPopularPills(5));
+        em.clear();
+        given(pillPopularityService.topItemSeqs(DRUG_COUNT)).willReturn(itemSeqs(DRUG_COUNT));
+        List<DrugSearchDto> result = new ArrayList<>();
+        long large = countStatements(() -> result.addAll(searchService.getPopularPills(DRUG_COUNT)));
+
+        // 약 상세 IN 조회 1 + DUR 목록 IN 조회 1 (약마다 findByItemCode 하지 않음)
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+        assertThat(result).hasSize(DRUG_COUNT);
+        assertThat(result.get(0).getDurInfoList()).hasSize(2);
+        assertThat(result.get(1).getDurInfoList()).isEmpty();
+    }
+
+    private void loadIndexes() {
+        drugCatalog.reload();   // DrugCatalogReloadedEvent → DurPresenceFilter / SymptomDrugIndex 도 다시 빌드
+        assertThat(durPresenceFilter.snapshot()).isNotNull();
+    }
+
+    private long countStatements(Supplier<?> action) {
+        statistics.clear();
+        action.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static List<String> itemSeqs(int count) {
+        List<String> seqs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) seqs.add(itemSeq(i));
+        return seqs;
+    }
+
+    private static MatchResult match(long symptomId, String displayNameKo) {
+        return new MatchResult(symptomId, "S00" + symptomId, displayNameKo, 0.9, "exact", displayNameKo, displayNameKo);
+    }
+
+    private static String itemSeq(int i) {
+        return String.format("2000%05d", i);
+    }
+
+    private static DrugOverview drug(String itemSeq, String itemName) {
+        DrugOverview drug = new DrugOverview();
+        drug.setItemSeq(itemSeq);
+        drug.setItemName(itemName);
+        drug.setEntpName("테스트제약");
+        drug.setEfficacyText("두통, 발열");
+        drug.setUseMethodText("1일 3회");
+        drug.setWarningText1("");
+        return drug;
+    }
+
+    private static DurInfo dur(String itemCode, String typeName) {
+        DurInfo dur = new DurInfo();
+        dur.setItemCode(itemCode);
+        dur.setItemName("테스트약");
+        dur.setTypeName(typeName);
+        dur.setProhibitedContent("");
+        return dur;
+    }
+}
@@ -0,0 +1,158 @@
+package com.timetopill.text;
+
+import com.timetopill.symptommapper.mapping.Preprocessor;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TextSanitizer 와 기존 정규식 정리(DrugPageParser.cleanHtml + truncate, Preprocessor) 결과 비교
+ * - 실제 식약처 문서 필드 모양 + 경계 사례(중첩 꺾쇠, 닫히지 않은 태그, NBSP, 전각 문자, CDATA) 코퍼스
+ * - 조각을 무작위로 이어 붙인 입력 (시드 고정)
+ *
+ * 기존과 다른 점 (의도한 차이, 아래 테스트로 고정):
+ * 1) 문서 필드의 제어/포맷 문자(\p{C}, 제로폭 공백 등)는 공백 - 기존은 그대로 저장
+ * 2) 자르는 위치가 서로게이트 쌍 가운데면 쌍을 통째로 버림 - 기존은 반쪽(high surrogate)만 남김
+ * 3) CDATA 시작 표시를 지워야 "]]>" 가 생기는 입력(예: "]]<![CDATA[>x")은 그 "]]>" 를 지우지 않음
+ *    - 기존은 replace 를 차례로 적용해서 지운 뒤에 생긴 "]]>" 도 지움. 실제 API 응답에서는 나오지 않는 모양
+ */
+class TextSanitizerParityTest {
+
+    private static final int DOC_LIMIT = 4000;
+
+    private static final List<String> CORPUS = List.of(
+            // 식약처 허가정보 EE/UD/NB_DOC_DATA 모양
+            "<DOC title=\"효능효과\" type=\"EE\"><SECTION title=\"\"><ARTICLE title=\"1. 두통, 치통, 생리통\">"
+                    + "<PARAGRAPH tagName=\"p\" textIndent=\"0\" marginLeft=\"0\"><![CDATA[감기로 인한 발열 및 동통(통증)]]>"
+                    + "</PARAGRAPH></ARTICLE></SECTION></DOC>",
+            "<DOC title=\"용법용량\" type=\"UD\"><SECTION title=\"\"><ARTICLE title=\"\"><PARAGRAPH tagName=\"p\">"
+                    + "<![CDATA[성인 : 1회 1~2정, 1일 3~4회 필요시 복용한다. 복용간격은 4~6시간 이상으로 한다.]]>"
+                    + "</PARAGRAPH></ARTICLE></SECTION></DOC>",
+            "<DOC title=\"사용상의주의사항\" type=\"NB\"><SECTION title=\"\"><ARTICLE title=\"1. 경고\">"
+                    + "<PARAGRAPH tagName=\"p\"><![CDATA[매일 세잔 이상 정기적으로 술을 마시는 사람이 이 약이나 "
+                    + "다른 해열 진통제를 복용해야 할 경우 반드시 의사 또는 약사와 상의해야 한다.]]></PARAGRAPH>"
+                    + "<PARAGRAPH tagName=\"table\"><![CDATA[<table><tr><td>1일 최대 4g</td></tr></table>]]></PARAGRAPH>"
+                    + "</ARTICLE></SECTION></DOC>",
+            "<p>1일 3회, 1회 1정(500&nbsp;mg)</p>\n<p>식후 30분</p>",
+            "null",
+            // 경계 사례
+            "<<b>>중첩</b>>", "<a<b>c>d", "열린 꺾쇠 < 만 있음", "a > b", "<![CDATA[<b>굵게</b>]]>", "]]>앞",
+            "<![CDATA[", "<]]>", "x<!-- 주석 -->y", "<br/>줄<br />바꿈",
+            "NBSP 사이", " 앞뒤 ", "전각 ＡＢＣ１２３", "ｱｲｳ 반각가나", "㎎ ㎖ ℃", "①②", "Ⅲ",
+            "탭\t줄\n바꿈\r\n", "  ", "", "이모지😀두통", "두통😀"
+    );
+
+    private static final String[] FRAGMENTS = {
+            "<", ">", "<b>", "</p>", "<![CDATA[", "]]>", "]", "]]", "[", " ", "  ", "\t", "\n", " ",
+            "두통", "가", "힣", "a", "Z", "0", "9", ",", "/", "&", "#", "(", ")", ".", "-", "Ａ", "１", "㎎", "ｱ", "·"
+    };
+
+    @Test
+    void documentFieldsMatchLegacyRegexOnCorpus() {
+        for (String input : CORPUS) {
+            assertThat(cleanHtml(input, DOC_LIMIT))
+                    .as("입력: %s", input)
+                    .isEqualTo(legacyCleanHtml(input, DOC_LIMIT));
+        }
+    }
+
+    @Test
+    void searchQueriesMatchLegacyRegexOnCorpus() {
+        for (String input : CORPUS) {
+            assertThat(Preprocessor.preprocess(input))
+                    .as("입력: %s", input)
+                    .isEqualTo(legacyPreprocess(input));
+        }
+    }
+
+    @Test
+    void randomFragmentsMatchLegacyRegex() {
+        Random random = new Random(42);
+        int compared = 0;
+        for (int n = 0; n < 100_000; n++) {
+            StringBuilder builder = new StringBuilder();
+            int count = random.nextInt(12);
+            for (int i = 0; i < count; i++) builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            String input = builder.toString();
+            int maxLength = 1 + random.nextInt(20);
+            if (cdataOpenFormsClose(input)) continue;   // 차이 3)
+
+            assertThat(TextSanitizer.MARKUP.sanitize(input, maxLength))
+                    .as("입력: %s (maxLength=%d)", input, maxLength)
+                    .isEqualTo(legacyCleanHtml(input, maxLength));
+            assertThat(Preprocessor.preprocess(input))
+                    .as("입력: %s", input)
+                    .isEqualTo(legacyPreprocess(input));
+            compared++;
+        }
+        assertThat(compared).isGreaterThan(99_000);
+    }
+
+    @Test
+    void nbspAndFullWidthCharactersKeepLegacyBehavior() {
+        // 문서 필드: 정규식 \s 에 NBSP 가 포함되지 않아 기존에도 그대로 남았음 / 전각 문자도 그대로
+        assertThat(TextSanitizer.MARKUP.sanitize("NBSP 사이 ＡＢＣ", DOC_LIMIT)).isEqualTo("NBSP 사이 ＡＢＣ");
+        // 검색어: NFKC 로 전각 → 반각, NBSP 는 NFKC 에서 공백이 됨
+        assertThat(Preprocessor.preprocess("전각 ＡＢＣ１２３")).isEqualTo("전각 ABC123");
+    }
+
+    @Test
+    void documentFieldsNowReplaceControlAndFormatCharacters() {
+        // 차이 1)
+        assertThat(legacyCleanHtml("제로폭​공백", DOC_LIMIT)).isEqualTo("제로폭​공백");
+        assertThat(TextSanitizer.MARKUP.sanitize("제로폭​공백", DOC_LIMIT)).isEqualTo("제로폭 공백");
+        assertThat(TextSanitizer.MARKUP.sanitize("제어\u0001문자", DOC_LIMIT)).isEqualTo("제어 문자");
+    }
+
+    @Test
+    void truncationDropsWholeSurrogatePair() {
+        // 차이 2)
+        assertThat(legacyCleanHtml("두통😀", 3)).isEqualTo("두통\ud83d");
+        assertThat(TextSanitizer.MARKUP.sanitize("두통😀", 3)).isEqualTo("두통");
+        assertThat(TextSanitizer.MARKUP.sanitize("두통😀", 4)).isEqualTo("두통😀");
+    }
+
+    @Test
+    void cdataCloseFormedByRemovingOpenMarkerIsKept() {
+        // 차이 3)
+        assertThat(legacyCleanHtml("]]<![CDATA[>x", DOC_LIMIT)).isEqualTo("x");
+        assertThat(TextSanitizer.MARKUP.sanitize("]]<![CDATA[>x", DOC_LIMIT)).isEqualTo("]]>x");
+    }
+
+    // 현재 DrugPageParser.cleanHtml ("null" 문자열은 파서에서 먼저 걸러냄)
+    private static String cleanHtml(String input, int maxLength) {
+        if ("null".equals(input)) return "";
+        return TextSanitizer.MARKUP.sanitize(input, maxLength);
+    }
+
+    // 기존 DrugPageParser.cleanHtml + truncate
+    private static String legacyCleanHtml(String input, int maxLength) {
+        if (input == null || input.isEmpty() || input.equals("null")) return "";
+        String text = input.replace("<![CDATA[", "").replace("]]>", "");
+        text = text.replaceAll("<[^>]*>", " ").replaceAll("\\s+", " ").trim();
+        return text.length() > maxLength ? text.substring(0, maxLength) : text;
+    }
+
+    // 기존 Preprocessor.preprocess
+    private static String legacyPreprocess(String input) {
+        if (input == null) return "";
+        String s = Normalizer.normalize(input, Normalizer.Form.NFKC);
+        s = s.replaceAll("[\\p{C}]+", " ");
+        s = s.replaceAll("[^#0-9a-zA-Z가-힣\\s,/&]+", " ");
+        return s.replaceAll("\\s+", " ").trim();
+    }
+
+    private static boolean cdataOpenFormsClose(String input) {
+        return count(input.replace("<![CDATA[", ""), "]]>") != count(input, "]]>");
+    }
+
+    private static int count(String text, String pattern) {
+        int count = 0;
+        for (int i = text.indexOf(pattern); i >= 0; i = text.indexOf(pattern, i + pattern.length())) count++;
+        return count;
+    }
+}
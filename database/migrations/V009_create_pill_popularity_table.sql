@@ -0,0 +1,18 @@
+-- V009: 인기 약품 카운터 테이블
+-- /api/search/popular 가 user_pills 전체 GROUP BY 를 돌지 않도록
+-- 약 추가/삭제 시점에 item_seq 별 등록 수를 증감해서 유지
+
+CREATE TABLE IF NOT EXISTS pill_popularity (
+    item_seq VARCHAR(50) PRIMARY KEY COMMENT 'drug_overview.item_seq',
+    add_count BIGINT NOT NULL DEFAULT 0 COMMENT '내 약통에 등록된 수',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_popularity_count (add_count DESC)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 등록 데이터로 초기값 채우기
+INSERT INTO pill_popularity (item_seq, add_count)
+SELECT pill_id, COUNT(*) FROM user_pills GROUP BY pill_id
+ON DUPLICATE KEY UPDATE add_count = VALUES(add_count);
+
+-- Rollback:
+-- DROP TABLE pill_popularity;
@@ -0,0 +1,17 @@
+-- V010: 식약처 의약품 API 적재 체크포인트
+-- /api/init-data 가 페이지 단위로 커밋하면서 "여기까지 연속으로 끝난 페이지"를 기록
+-- 중간에 실패/재시작해도 ?resume=true 로 마지막 체크포인트 다음 페이지부터 이어서 적재
+
+CREATE TABLE IF NOT EXISTS ingestion_checkpoint (
+    source VARCHAR(50) PRIMARY KEY COMMENT '적재 대상 (drug_overview)',
+    run_id VARCHAR(36) NOT NULL COMMENT '적재 실행 ID (UUID)',
+    last_page INT NOT NULL DEFAULT 0 COMMENT '1페이지부터 연속으로 커밋된 마지막 페이지',
+    total_pages INT NOT NULL DEFAULT 0 COMMENT 'API totalCount 기준 전체 페이지 수',
+    page_size INT NOT NULL COMMENT '페이지당 요청 건수 (재개 시 설정이 바뀌었으면 약 위치로 환산)',
+    saved_count INT NOT NULL DEFAULT 0 COMMENT '이번 실행에서 저장한 건수',
+    status VARCHAR(20) NOT NULL COMMENT 'RUNNING / COMPLETED / FAILED',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Rollback:
+-- DROP TABLE ingestion_checkpoint;
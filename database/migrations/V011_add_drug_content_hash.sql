@@ -0,0 +1,9 @@
+-- V011: drug_overview 내용 해시
+-- /api/init-data?delta=true 가 식약처 API 의 약 정보와 저장된 행을 해시로 비교해서
+-- 바뀐 약(효능/용법/주의사항 문구 변경 등)만 다시 씀
+-- 기존 행은 NULL → 다음 delta 적재 때 한 번씩 다시 쓰이면서 채워짐
+
+ALTER TABLE drug_overview ADD COLUMN content_hash CHAR(64) NULL COMMENT 'SHA-256(이름/업체/효능/용법/주의사항)';
+
+-- Rollback:
+-- ALTER TABLE drug_overview DROP COLUMN content_hash;